@@ -2,7 +2,10 @@ package com.example.worldpopulation;
 
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -12,11 +15,17 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @SpringBootApplication
 @MapperScan("com.example.worldpopulation.mapper")
+@EnableScheduling
 public class WorldpopulationApplication {
 
 	public static void main(String[] args) {
 
-		SpringApplication.run(WorldpopulationApplication.class, args);
+		SpringApplication application = new SpringApplication(WorldpopulationApplication.class);
+		// 명령행 대량 적재 후 종료하는 경우에는 웹 서버를 띄우지 않음 (실행 중인 서버와 포트 충돌 방지)
+		if (Boolean.parseBoolean(new SimpleCommandLinePropertySource(args).getProperty("app.import.exit"))) {
+			application.setWebApplicationType(WebApplicationType.NONE);
+		}
+		application.run(args);
 	}
 
 }
@@ -1,9 +1,17 @@
 package com.example.worldpopulation.config;
 
+import com.example.worldpopulation.util.Bulkhead;
+import com.example.worldpopulation.util.CircuitBreaker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 @Configuration
 public class AppConfig {
 
@@ -15,4 +23,44 @@ public class AppConfig {
     public RestTemplate restTemplate() {
         return new RestTemplate();
     }
-}
\ No newline at end of file
+
+    /**
+     * 뉴스 원천 서킷 브레이커
+     * 상태(0: CLOSED, 1: OPEN, 2: HALF_OPEN), 실패율, 거절 건수를 메트릭으로 노출
+     */
+    @Bean
+    public CircuitBreaker newsCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${news.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${news.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${news.circuit-breaker.minimum-calls:5}") int minimumCalls,
+            @Value("${news.circuit-breaker.open-duration:30s}") Duration openDuration) {
+        CircuitBreaker breaker = new CircuitBreaker(failureRateThreshold, windowSize, minimumCalls, openDuration);
+        Gauge.builder("news.upstream.circuit.state", breaker, b -> b.state().ordinal())
+                .description("뉴스 원천 서킷 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .register(meterRegistry);
+        Gauge.builder("news.upstream.circuit.failure.rate", breaker, CircuitBreaker::failureRate)
+                .description("최근 뉴스 원천 호출 실패율")
+                .register(meterRegistry);
+        FunctionCounter.builder("news.upstream.circuit.not.permitted", breaker, CircuitBreaker::notPermittedCalls)
+                .description("서킷이 열려 거절된 뉴스 원천 호출")
+                .register(meterRegistry);
+        return breaker;
+    }
+
+    /**
+     * 뉴스 원천 동시 호출 제한
+     */
+    @Bean
+    public Bulkhead newsBulkhead(MeterRegistry meterRegistry,
+                                 @Value("${news.bulkhead.max-concurrent:10}") int maxConcurrent) {
+        Bulkhead bulkhead = new Bulkhead(maxConcurrent);
+        Gauge.builder("news.upstream.bulkhead.available", bulkhead, Bulkhead::available)
+                .description("뉴스 원천 동시 호출 여유 자리")
+                .register(meterRegistry);
+        FunctionCounter.builder("news.upstream.bulkhead.rejected", bulkhead, Bulkhead::rejectedCalls)
+                .description("동시 호출 제한으로 거절된 뉴스 원천 호출")
+                .register(meterRegistry);
+        return bulkhead;
+    }
+}
@@ -3,6 +3,7 @@ package com.example.worldpopulation.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -19,6 +20,7 @@ import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
 import com.example.worldpopulation.filter.JwtAuthenticationFilter;
 import com.example.worldpopulation.service.CustomUserDetailsService;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
@@ -33,6 +35,9 @@ public class SecurityConfig {
     @Value("${app.cors.allowed-origins:http://localhost:5173,http://localhost:5174,http://localhost:5175,http://localhost:3000}")
     private String allowedOriginsString;
 
+    @Value("${app.login.bcrypt-strength:10}")
+    private int bcryptStrength;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -48,6 +53,8 @@ public class SecurityConfig {
                         .frameOptions(frame -> frame.deny())
                         .contentTypeOptions())
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(뉴스 조회 등)의 재디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/login",
                                 "/api/auth/**",
@@ -56,9 +63,14 @@ public class SecurityConfig {
                                 "/images/**",
                                 "/v3/api-docs/**",
                                 "/swagger-ui/**",
-                                "/swagger-ui.html")
+                                "/swagger-ui.html",
+                                "/actuator/health")
                         .permitAll()
-                        .requestMatchers("/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/admin/**", "/api/admin/**", "/actuator/**").hasRole("ADMIN")
+                        // 인구 데이터 변경 API (메서드 보안이 꺼져 있어 @PreAuthorize 만으로는 막히지 않음)
+                        .requestMatchers(HttpMethod.POST, "/api/population/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.PUT, "/api/population/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.DELETE, "/api/population/**").hasRole("ADMIN")
                         .anyRequest().authenticated())
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -120,8 +132,11 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * 강도를 올리면 기존 사용자는 다음 로그인 때 새 강도로 재해시됩니다.
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 }
@@ -0,0 +1,39 @@
+package com.example.worldpopulation.config;
+
+import com.example.worldpopulation.interceptor.ConditionalGetInterceptor;
+import com.example.worldpopulation.interceptor.ExportTimeoutInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+    private final ExportTimeoutInterceptor exportTimeoutInterceptor;
+
+    /**
+     * 데이터 조회 API 에 ETag / 304 적용
+     * (대시보드는 일부 항목 누락 여부를 봐야 하므로 DashboardApiController 에서 직접 처리)
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(conditionalGetInterceptor)
+                .addPathPatterns(
+                        "/api/population/**",
+                        "/api/countries/**",
+                        "/api/continents/**",
+                        "/api/stats/**");
+    }
+
+    /**
+     * 내보내기 스트리밍 응답의 비동기 타임아웃
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(exportTimeoutInterceptor);
+    }
+}
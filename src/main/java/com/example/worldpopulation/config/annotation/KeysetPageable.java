@@ -0,0 +1,7 @@
+package com.example.worldpopulation.config.annotation;
+
+public interface KeysetPageable {
+    String getCursor();
+    Integer getPageSize();
+    void setPageSize(Integer pageSize);
+}
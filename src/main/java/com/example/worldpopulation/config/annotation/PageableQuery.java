@@ -26,4 +26,21 @@ public @interface PageableQuery {
      * 최대 페이지 크기 (성능 보호)
      */
     int maxPageSize() default 100;
+
+    /**
+     * 페이징 방식 (KEYSET 이면 PageHelper 를 시작하지 않고 페이지 크기만 검증)
+     */
+    PagingMode mode() default PagingMode.OFFSET;
+
+    /**
+     * 전체 건수 캐시 여부 (OFFSET 전용)
+     * Pageable 이 아닌 인자 조합별로 COUNT 결과를 기억하고, tables 중 하나라도 변경되기 전까지
+     * COUNT 쿼리 없이 본 쿼리만 실행합니다. 인자는 equals/hashCode 를 구현해야 합니다.
+     */
+    boolean cacheCount() default false;
+
+    /**
+     * 전체 건수가 의존하는 테이블 (cacheCount 사용 시 필수)
+     */
+    String[] tables() default {};
 }
\ No newline at end of file
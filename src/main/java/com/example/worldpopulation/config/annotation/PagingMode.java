@@ -0,0 +1,17 @@
+package com.example.worldpopulation.config.annotation;
+
+/**
+ * 페이징 방식
+ */
+public enum PagingMode {
+
+    /**
+     * PageHelper 기반 OFFSET/LIMIT + COUNT 페이징
+     */
+    OFFSET,
+
+    /**
+     * 마지막 행의 정렬 키 다음부터 읽는 커서(seek) 페이징
+     */
+    KEYSET
+}
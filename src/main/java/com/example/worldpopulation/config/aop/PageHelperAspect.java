@@ -1,6 +1,10 @@
 package com.example.worldpopulation.config.aop;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -9,61 +13,82 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import com.example.worldpopulation.config.annotation.KeysetPageable;
 import com.example.worldpopulation.config.annotation.Pageable;
 import com.example.worldpopulation.config.annotation.PageableQuery;
+import com.example.worldpopulation.config.annotation.PagingMode;
+import com.example.worldpopulation.store.PageCountCache;
+import com.github.pagehelper.Page;
 import com.github.pagehelper.PageHelper;
+import com.github.pagehelper.PageInfo;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * PageHelper 자동 적용 AOP
  * @PageableQuery 어노테이션이 붙은 메서드 실행 전에 자동으로 PageHelper.startPage()를 호출
+ * KEYSET 모드에서는 PageHelper 없이 KeysetPageable 의 페이지 크기만 검증
+ * 어노테이션과 페이징 파라미터 위치는 메서드별로 한 번만 해석하여 보관
  */
 @Slf4j
 @Aspect
 @Component
 @Order(1)  // 트랜잭션보다 먼저 실행되어야 함
 public class PageHelperAspect {
-    
+
+    private final PageCountCache pageCountCache;
+
+    // 메서드 → 페이징 계획
+    private final Map<Method, Plan> plans = new ConcurrentHashMap<>();
+
+    public PageHelperAspect(PageCountCache pageCountCache) {
+        this.pageCountCache = pageCountCache;
+    }
+
     @Around("@annotation(com.example.worldpopulation.config.annotation.PageableQuery)")
     public Object handlePaging(ProceedingJoinPoint joinPoint) throws Throwable {
-        
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        PageableQuery pageableQuery = method.getAnnotation(PageableQuery.class);
 
-        // 메서드 파라미터에서 Pageable 구현체 찾기
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Plan plan = plans.computeIfAbsent(method, Plan::of);
+
         Object[] args = joinPoint.getArgs();
-        Pageable pageableParam = findPageableParam(args);
-        
+
+        if (plan.mode() == PagingMode.KEYSET) {
+            return handleKeyset(joinPoint, plan, args);
+        }
+
+        // 메서드 파라미터에서 Pageable 구현체 찾기
+        Pageable pageableParam = plan.pageableIndex() >= 0 ? (Pageable) args[plan.pageableIndex()] : null;
+
+        Integer pageNum;
+        Integer pageSize;
         if (pageableParam != null) {
             // 페이징 파라미터 검증 및 설정
-            Integer pageNum = validateAndGetPageNum(
-                pageableParam.getPageNum(), 
-                pageableQuery.defaultPageNum()
+            pageNum = validateAndGetPageNum(
+                pageableParam.getPageNum(),
+                plan.defaultPageNum()
             );
-            
-            Integer pageSize = validateAndGetPageSize(
-                pageableParam.getPageSize(), 
-                pageableQuery.defaultPageSize(),
-                pageableQuery.maxPageSize()
+
+            pageSize = validateAndGetPageSize(
+                pageableParam.getPageSize(),
+                plan.defaultPageSize(),
+                plan.maxPageSize()
             );
-            
-            // PageHelper 시작
-            PageHelper.startPage(pageNum, pageSize);
-            
-            log.debug("PageHelper AOP 적용 - Method: {}, PageNum: {}, PageSize: {}", method.getName(), pageNum, pageSize);
         } else {
             // Pageable 파라미터가 없으면 기본값 사용
-            PageHelper.startPage(
-                pageableQuery.defaultPageNum(), 
-                pageableQuery.defaultPageSize()
-            );
-            
-            log.debug("PageHelper AOP 적용 (기본값) - Method: {}, PageNum: {}, PageSize: {}", method.getName(), pageableQuery.defaultPageNum(), pageableQuery.defaultPageSize());
+            pageNum = plan.defaultPageNum();
+            pageSize = plan.defaultPageSize();
         }
-        
+
         try {
+            if (plan.cacheCount()) {
+                return proceedWithCachedCount(joinPoint, plan, args, pageNum, pageSize);
+            }
+
+            // PageHelper 시작
+            PageHelper.startPage(pageNum, pageSize);
+            log.debug("PageHelper AOP 적용 - Method: {}, PageNum: {}, PageSize: {}", plan.name(), pageNum, pageSize);
+
             // 실제 메서드 실행
             return joinPoint.proceed();
         } finally {
@@ -71,23 +96,89 @@ public class PageHelperAspect {
             PageHelper.clearPage();
         }
     }
-    
+
     /**
-     * 메서드 파라미터에서 Pageable 구현체 찾기
+     * 전체 건수 캐시 적용 실행
+     * 적중하면 COUNT 없이 본 쿼리만 실행하고 결과에 캐시된 건수를 채우며,
+     * 실패하면 평소처럼 COUNT 를 실행하고 결과의 건수를 저장
      */
-    private Pageable findPageableParam(Object[] args) {
-        if (args == null || args.length == 0) {
-            return null;
-        }
-        
-        for (Object arg : args) {
-            if (arg instanceof Pageable) {
-                return (Pageable) arg;
+    private Object proceedWithCachedCount(ProceedingJoinPoint joinPoint, Plan plan, Object[] args,
+                                          int pageNum, int pageSize) throws Throwable {
+        PageCountCache.Key key = pageCountCache.key(plan.method(), plan.countArgs(args), plan.tables());
+        Long total = pageCountCache.get(key);
+
+        if (total == null) {
+            PageHelper.startPage(pageNum, pageSize);
+            log.debug("PageHelper AOP 적용 (건수 캐시 실패) - Method: {}, PageNum: {}, PageSize: {}", plan.name(), pageNum, pageSize);
+
+            Object result = joinPoint.proceed();
+            long counted = totalOf(result);
+            if (counted >= 0) {
+                pageCountCache.put(key, counted);
             }
+            return result;
+        }
+
+        // reasonable 보정 (COUNT 를 생략하면 PageHelper 가 마지막 페이지로 맞춰주지 않음)
+        int pages = (int) ((total + pageSize - 1) / pageSize);
+        if (pages > 0 && pageNum > pages) {
+            pageNum = pages;
         }
-        return null;
+        PageHelper.startPage(pageNum, pageSize, false);
+        log.debug("PageHelper AOP 적용 (건수 캐시 적중) - Method: {}, PageNum: {}, PageSize: {}, Total: {}", plan.name(), pageNum, pageSize, total);
+
+        return withTotal(joinPoint.proceed(), total);
     }
-    
+
+    /**
+     * 결과의 전체 건수 (PageHelper Page 가 아니면 -1)
+     * Page 가 아닌 목록(필터링/복사본)으로 만든 PageInfo 의 total 은 목록 크기일 뿐이므로 저장하지 않음
+     */
+    private static long totalOf(Object result) {
+        if (result instanceof PageInfo<?> pageInfo) {
+            return pageInfo.getList() instanceof Page<?> page ? page.getTotal() : -1;
+        }
+        if (result instanceof Page<?> page) {
+            return page.getTotal();
+        }
+        return -1;
+    }
+
+    /**
+     * 결과에 전체 건수를 채움 (PageInfo 는 페이지 수, 이동 번호까지 다시 계산)
+     */
+    private static Object withTotal(Object result, long total) {
+        if (result instanceof PageInfo<?> pageInfo && pageInfo.getList() instanceof Page<?> page) {
+            page.setTotal(total);
+            return new PageInfo<>(page, pageInfo.getNavigatePages());
+        }
+        if (result instanceof Page<?> page) {
+            page.setTotal(total);
+        }
+        return result;
+    }
+
+    /**
+     * 커서 페이징 처리
+     * OFFSET/COUNT 쿼리가 없으므로 PageHelper 를 시작하지 않고 페이지 크기만 보정
+     */
+    private Object handleKeyset(ProceedingJoinPoint joinPoint, Plan plan, Object[] args) throws Throwable {
+        KeysetPageable keysetParam = plan.pageableIndex() >= 0 ? (KeysetPageable) args[plan.pageableIndex()] : null;
+
+        if (keysetParam != null) {
+            Integer pageSize = validateAndGetPageSize(
+                keysetParam.getPageSize(),
+                plan.defaultPageSize(),
+                plan.maxPageSize()
+            );
+            keysetParam.setPageSize(pageSize);
+
+            log.debug("Keyset 페이징 적용 - Method: {}, PageSize: {}", plan.name(), pageSize);
+        }
+
+        return joinPoint.proceed();
+    }
+
     /**
      * 페이지 번호 검증
      */
@@ -97,7 +188,7 @@ public class PageHelperAspect {
         }
         return pageNum;
     }
-    
+
     /**
      * 페이지 크기 검증
      */
@@ -106,10 +197,53 @@ public class PageHelperAspect {
             return defaultPageSize;
         }
         if (pageSize > maxPageSize) {
-            log.warn("요청한 pageSize({})가 최대값({})을 초과하여 최대값으로 조정됩니다.", 
+            log.warn("요청한 pageSize({})가 최대값({})을 초과하여 최대값으로 조정됩니다.",
                     pageSize, maxPageSize);
             return maxPageSize;
         }
         return pageSize;
     }
-}
\ No newline at end of file
+
+    /**
+     * 메서드별 페이징 계획
+     * @param pageableIndex Pageable (KEYSET 이면 KeysetPageable) 파라미터 위치, 없으면 -1
+     */
+    private record Plan(Method method, String name, PagingMode mode, int defaultPageNum, int defaultPageSize,
+                        int maxPageSize, int pageableIndex, boolean cacheCount, String[] tables) {
+
+        static Plan of(Method method) {
+            PageableQuery pageableQuery = method.getAnnotation(PageableQuery.class);
+            Class<?> paramType = pageableQuery.mode() == PagingMode.KEYSET ? KeysetPageable.class : Pageable.class;
+
+            int pageableIndex = -1;
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            for (int i = 0; i < parameterTypes.length && pageableIndex < 0; i++) {
+                if (paramType.isAssignableFrom(parameterTypes[i])) {
+                    pageableIndex = i;
+                }
+            }
+
+            boolean cacheCount = pageableQuery.cacheCount() && pageableQuery.mode() == PagingMode.OFFSET;
+            if (cacheCount && pageableQuery.tables().length == 0) {
+                throw new IllegalStateException("@PageableQuery(cacheCount = true) 에는 tables 가 필요합니다: " + method);
+            }
+
+            return new Plan(method, method.getName(), pageableQuery.mode(), pageableQuery.defaultPageNum(),
+                    pageableQuery.defaultPageSize(), pageableQuery.maxPageSize(), pageableIndex,
+                    cacheCount, pageableQuery.tables());
+        }
+
+        /**
+         * 건수 캐시 키에 쓰는 인자 (페이지 번호/크기는 건수와 무관하므로 Pageable 제외)
+         */
+        List<Object> countArgs(Object[] args) {
+            List<Object> countArgs = new ArrayList<>(args.length);
+            for (int i = 0; i < args.length; i++) {
+                if (i != pageableIndex) {
+                    countArgs.add(args[i]);
+                }
+            }
+            return countArgs;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.worldpopulation.controller;
+
+import com.example.worldpopulation.dto.CacheStats;
+import com.example.worldpopulation.dto.ImportResult;
+import com.example.worldpopulation.dto.PageRequest;
+import com.example.worldpopulation.dto.ResponseCacheStats;
+import com.example.worldpopulation.dto.SqlTrace;
+import com.example.worldpopulation.model.User;
+import com.example.worldpopulation.service.BulkImportService;
+import com.example.worldpopulation.service.CustomUserDetailsService;
+import com.example.worldpopulation.service.DataFormat;
+import com.example.worldpopulation.service.NewsGateway;
+import com.example.worldpopulation.service.UserService;
+import com.example.worldpopulation.store.CountrySnapshotStore;
+import com.example.worldpopulation.store.PageCountCache;
+import com.example.worldpopulation.store.PopulationHistoryStore;
+import com.example.worldpopulation.store.ResponseCache;
+import com.example.worldpopulation.store.SqlTraceBuffer;
+import com.example.worldpopulation.util.JwtUtil;
+import com.github.pagehelper.PageInfo;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+@Tag(name = "Admin", description = "관리자 전용 API")
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final BulkImportService bulkImportService;
+    private final ResponseCache responseCache;
+    private final UserService userService;
+    private final CustomUserDetailsService userDetailsService;
+    private final JwtUtil jwtUtil;
+    private final NewsGateway newsGateway;
+    private final SqlTraceBuffer sqlTraceBuffer;
+    private final PageCountCache pageCountCache;
+    private final CountrySnapshotStore snapshotStore;
+    private final PopulationHistoryStore historyStore;
+
+    @Operation(summary = "국가 인구 대량 적재", description = "요청 본문의 CSV 또는 NDJSON 을 스트리밍으로 읽어 국가 코드 기준으로 upsert 합니다. Content-Encoding: gzip 을 지원합니다.")
+    @PostMapping("/import/countries")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportResult> importCountries(
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletRequest request) throws IOException {
+        try (InputStream body = body(request)) {
+            return ResponseEntity.ok(bulkImportService.importCountries(body, DataFormat.of(format)));
+        }
+    }
+
+    @Operation(summary = "인구 이력 대량 적재", description = "요청 본문의 CSV 또는 NDJSON 을 스트리밍으로 읽어 (국가 코드, 연도) 기준으로 upsert 합니다. Content-Encoding: gzip 을 지원합니다.")
+    @PostMapping("/import/history")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportResult> importHistory(
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletRequest request) throws IOException {
+        try (InputStream body = body(request)) {
+            return ResponseEntity.ok(bulkImportService.importHistory(body, DataFormat.of(format)));
+        }
+    }
+
+    @Operation(summary = "메모리 데이터 다시 읽기", description = "국가 스냅샷과 인구 이력을 DB 에서 다시 읽습니다. 다른 프로세스(명령행 대량 적재 등)에서 테이블을 바꾼 뒤 호출합니다.")
+    @PostMapping("/reload")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> reload() {
+        snapshotStore.refresh();
+        historyStore.invalidate();
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "응답 캐시 통계", description = "통계 API 응답 바이트 캐시의 적중률과 사용량을 조회합니다.")
+    @GetMapping("/response-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseCacheStats> getResponseCacheStats() {
+        return ResponseEntity.ok(responseCache.stats());
+    }
+
+    @Operation(summary = "응답 캐시 비우기", description = "통계 API 응답 바이트 캐시를 모두 비웁니다.")
+    @DeleteMapping("/response-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> clearResponseCache() {
+        responseCache.clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "인메모리 캐시 통계", description = "사용자 정보, 검증된 토큰, 뉴스, 페이징 전체 건수 캐시의 적중률을 조회합니다.")
+    @GetMapping("/caches")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<CacheStats>> getCacheStats() {
+        return ResponseEntity.ok(List.of(userDetailsService.stats(), jwtUtil.verifiedCacheStats(), newsGateway.stats(),
+                pageCountCache.stats()));
+    }
+
+    @Operation(summary = "SQL 추적 조회", description = "느린 쿼리와 무작위 표본으로 수집된 최근 SQL 실행 기록을 최신순으로 조회합니다.")
+    @GetMapping("/sql-traces")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<SqlTrace>> getSqlTraces(
+            @RequestParam(defaultValue = "false") boolean slowOnly) {
+        List<SqlTrace> traces = sqlTraceBuffer.snapshot();
+        if (slowOnly) {
+            traces = traces.stream().filter(trace -> "SLOW".equals(trace.getReason())).toList();
+        }
+        return ResponseEntity.ok(traces);
+    }
+
+    @Operation(summary = "SQL 추적 비우기", description = "수집된 SQL 실행 기록을 모두 비웁니다.")
+    @DeleteMapping("/sql-traces")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> clearSqlTraces() {
+        sqlTraceBuffer.clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "사용자 목록 조회", description = "전체 사용자 목록을 조회합니다. (비밀번호 제외)")
+    @GetMapping("/users")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<User>> getUsers() {
+        return ResponseEntity.ok(userService.getUsers());
+    }
+
+    @Operation(summary = "사용자 페이지 조회", description = "권한과 검색어(아이디, 이메일, 이름)로 사용자를 최근 가입순으로 페이지 조회합니다. 전체 건수는 사용자 변경 전까지 캐시됩니다. (비밀번호 제외)")
+    @GetMapping("/users/page")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PageInfo<User>> getUserPage(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(userService.getUserPage(role, keyword, new PageRequest(page, size)));
+    }
+
+    @Operation(summary = "사용자 수정", description = "사용자의 이메일, 이름, 권한, 활성 여부를 수정합니다. 기존에 발급된 토큰은 무효화됩니다.")
+    @PutMapping("/users/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<User> updateUser(@PathVariable Long id, @RequestBody User user) {
+        return ResponseEntity.ok(userService.updateUser(id, user));
+    }
+
+    @Operation(summary = "사용자 삭제", description = "사용자를 삭제하고 기존에 발급된 토큰을 무효화합니다.")
+    @DeleteMapping("/users/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
+        userService.deleteUser(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    private static InputStream body(HttpServletRequest request) throws IOException {
+        InputStream body = request.getInputStream();
+        return "gzip".equalsIgnoreCase(request.getHeader("Content-Encoding")) ? new GZIPInputStream(body) : body;
+    }
+}
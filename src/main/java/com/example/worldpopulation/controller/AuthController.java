@@ -11,10 +11,12 @@ import com.example.worldpopulation.dto.AuthRequest;
 import com.example.worldpopulation.dto.AuthResponse;
 import com.example.worldpopulation.model.User;
 import com.example.worldpopulation.service.AuthService;
+import com.example.worldpopulation.util.JwtUtil;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -54,9 +56,12 @@ public class AuthController {
         return ResponseEntity.ok(registeredUser);
     }
 
-    @Operation(summary = "로그아웃", description = "JWT 토큰 쿠키를 삭제하여 로그아웃 처리합니다.")
+    @Operation(summary = "로그아웃", description = "JWT 토큰을 폐기하고 쿠키를 삭제하여 로그아웃 처리합니다.")
     @PostMapping("/logout")
-    public ResponseEntity<String> logout(HttpServletResponse response) {
+    public ResponseEntity<String> logout(HttpServletRequest request, HttpServletResponse response) {
+        // 쿠키를 지워도 토큰 자체는 만료 전까지 유효하므로 서버에서 폐기
+        authService.logout(JwtUtil.resolveToken(request));
+
         Cookie cookie = new Cookie("jwt", null);
         cookie.setHttpOnly(true);
         cookie.setPath("/");
@@ -1,5 +1,6 @@
 package com.example.worldpopulation.controller;
 
+import com.example.worldpopulation.dto.ContinentStatistics;
 import com.example.worldpopulation.model.CountryPopulation;
 import com.example.worldpopulation.service.PopulationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,7 +10,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Map;
 
 @Tag(name = "Continent", description = "대륙 정보 관련 API")
 @RestController
@@ -21,7 +21,7 @@ public class ContinentController {
 
     @Operation(summary = "대륙별 통계 조회", description = "대륙별 인구 분포 및 통계 정보를 조회합니다.")
     @GetMapping("/stats")
-    public ResponseEntity<List<Map<String, Object>>> getStats() {
+    public ResponseEntity<List<ContinentStatistics>> getStats() {
         return ResponseEntity.ok(populationService.getContinentStatistics());
     }
 
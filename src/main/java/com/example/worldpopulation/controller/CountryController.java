@@ -1,5 +1,8 @@
 package com.example.worldpopulation.controller;
 
+import com.example.worldpopulation.dto.CountrySuggestion;
+import com.example.worldpopulation.dto.KeysetPage;
+import com.example.worldpopulation.dto.KeysetPageRequest;
 import com.example.worldpopulation.model.CountryPopulation;
 import com.example.worldpopulation.service.PopulationService;
 import com.github.pagehelper.PageInfo;
@@ -28,6 +31,16 @@ public class CountryController {
         return ResponseEntity.ok(populationService.getAllCountries(page, pageSize));
     }
 
+    @Operation(summary = "전체 국가 목록 커서 조회", description = "인구 순으로 정렬된 국가 목록을 커서 기반으로 조회합니다. 응답의 nextCursor 를 다음 요청에 전달합니다.")
+    @GetMapping("/seek")
+    public ResponseEntity<KeysetPage<CountryPopulation>> getCountriesAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int pageSize,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        return ResponseEntity.ok(populationService.getCountriesAfter(
+                new KeysetPageRequest(cursor, pageSize, withTotal)));
+    }
+
     @Operation(summary = "국가 상세 정보 조회", description = "국가 코드를 사용하여 특정 국가의 상세 정보를 조회합니다.")
     @GetMapping("/{countryCode}")
     public ResponseEntity<CountryPopulation> getCountryDetail(@PathVariable String countryCode) {
@@ -41,6 +54,14 @@ public class CountryController {
         return ResponseEntity.ok(populationService.searchCountries(keyword));
     }
 
+    @Operation(summary = "국가 자동완성", description = "입력 중인 접두어로 시작하는 국가의 코드와 이름을 인구 순으로 조회합니다.")
+    @GetMapping("/suggest")
+    public ResponseEntity<List<CountrySuggestion>> suggestCountries(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(populationService.suggestCountries(prefix, limit));
+    }
+
     @Operation(summary = "상위 인구 국가 조회", description = "인구 수가 가장 많은 상위 N개 국가를 조회합니다.")
     @GetMapping("/top")
     public ResponseEntity<List<CountryPopulation>> getTopCountries(
@@ -0,0 +1,47 @@
+package com.example.worldpopulation.controller;
+
+import com.example.worldpopulation.dto.DashboardSummary;
+import com.example.worldpopulation.interceptor.ConditionalGetInterceptor;
+import com.example.worldpopulation.service.DashboardService;
+import com.example.worldpopulation.store.DataVersion;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Dashboard", description = "대시보드 API")
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardApiController {
+
+    private final DashboardService dashboardService;
+    private final DataVersion dataVersion;
+
+    /**
+     * 조건부 GET 은 인터셉터 대신 여기서 처리
+     * 일부 항목이 빠진 응답에 현재 ETag 가 붙으면 클라이언트가 다시 받지 않으므로, 완전한 응답에만 붙입니다.
+     */
+    @Operation(summary = "대시보드 요약 조회", description = "국가 목록, 대륙별 통계, 총 인구, 상위 10개국을 한 번에 조회합니다. 조회하지 못한 항목은 failures 에 표시됩니다.")
+    @GetMapping
+    public ResponseEntity<DashboardSummary> getSummary(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        // 조회 중 데이터가 바뀌면 다음 요청에서 재검증되도록 먼저 읽어 둠
+        DataVersion.Stamp stamp = dataVersion.current();
+        DashboardSummary summary = dashboardService.getSummary(page, size);
+        if (summary.isPartial()) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(summary);
+        }
+        if (ConditionalGetInterceptor.checkNotModified(request, response, stamp)) {
+            return null;
+        }
+        return ResponseEntity.ok(summary);
+    }
+}
@@ -1,8 +1,9 @@
 package com.example.worldpopulation.controller;
 
+import com.example.worldpopulation.dto.DashboardSummary;
 import com.example.worldpopulation.model.CountryPopulation;
+import com.example.worldpopulation.service.DashboardService;
 import com.example.worldpopulation.service.PopulationService;
-import com.github.pagehelper.PageInfo;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
@@ -10,7 +11,6 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Map;
 
 @Tag(name = "Dashboard UI", description = "대시보드 화면 관련 컨트롤러 (UI)")
 @Controller
@@ -18,6 +18,7 @@ import java.util.Map;
 public class DashboardController {
 
     private final PopulationService populationService;
+    private final DashboardService dashboardService;
 
     @GetMapping("/")
     public String index() {
@@ -35,16 +36,14 @@ public class DashboardController {
             @RequestParam(defaultValue = "10") int size,
             Model model) {
         
-        PageInfo<CountryPopulation> pageInfo = populationService.getAllCountries(page, size);
-        List<Map<String, Object>> continentStats = populationService.getContinentStatistics();
-        Long totalPopulation = populationService.getTotalWorldPopulation();
-        List<CountryPopulation> topCountries = populationService.getTopCountries(10);
+        DashboardSummary summary = dashboardService.getSummary(page, size);
         
-        model.addAttribute("countries", pageInfo.getList());
-        model.addAttribute("pageInfo", pageInfo);
-        model.addAttribute("continentStats", continentStats);
-        model.addAttribute("totalPopulation", totalPopulation);
-        model.addAttribute("topCountries", topCountries);
+        model.addAttribute("countries", summary.getCountries().getList());
+        model.addAttribute("pageInfo", summary.getCountries());
+        model.addAttribute("continentStats", summary.getContinentStats());
+        model.addAttribute("totalPopulation", summary.getTotalPopulation());
+        model.addAttribute("topCountries", summary.getTopCountries());
+        model.addAttribute("failures", summary.getFailures());
         
         return "dashboard";
     }
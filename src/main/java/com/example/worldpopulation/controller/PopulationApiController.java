@@ -1,14 +1,25 @@
 package com.example.worldpopulation.controller;
 
+import com.example.worldpopulation.dto.ContinentStatistics;
+import com.example.worldpopulation.dto.KeysetPage;
+import com.example.worldpopulation.dto.KeysetPageRequest;
 import com.example.worldpopulation.model.CountryPopulation;
+import com.example.worldpopulation.model.PopulationHistory;
+import com.example.worldpopulation.service.DataFormat;
+import com.example.worldpopulation.service.ExportService;
 import com.example.worldpopulation.service.PopulationService;
+import com.example.worldpopulation.store.PopulationSeries;
 import com.github.pagehelper.PageInfo;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -20,6 +31,7 @@ import java.util.Map;
 public class PopulationApiController {
 
     private final PopulationService populationService;
+    private final ExportService exportService;
 
     @Operation(summary = "모든 국가 인구 조회", description = "페이징 처리된 모든 국가의 인구 데이터를 조회합니다.")
     @GetMapping("/countries")
@@ -29,6 +41,16 @@ public class PopulationApiController {
         return ResponseEntity.ok(populationService.getAllCountries(page, size));
     }
 
+    @Operation(summary = "모든 국가 인구 커서 조회", description = "인구 순으로 정렬된 국가 인구 데이터를 커서 기반으로 조회합니다. 응답의 nextCursor 를 다음 요청에 전달합니다.")
+    @GetMapping("/countries/seek")
+    public ResponseEntity<KeysetPage<CountryPopulation>> getCountriesAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        return ResponseEntity.ok(populationService.getCountriesAfter(
+                new KeysetPageRequest(cursor, size, withTotal)));
+    }
+
     @Operation(summary = "특정 국가 인구 조회", description = "국가 코드를 사용하여 특정 국가의 인구 데이터를 조회합니다.")
     @GetMapping("/countries/{countryCode}")
     public ResponseEntity<CountryPopulation> getCountry(@PathVariable String countryCode) {
@@ -51,7 +73,7 @@ public class PopulationApiController {
 
     @Operation(summary = "대륙별 통계 조회", description = "대륙별 인구 분포 및 통계 정보를 조회합니다.")
     @GetMapping("/statistics/continents")
-    public ResponseEntity<List<Map<String, Object>>> getContinentStatistics() {
+    public ResponseEntity<List<ContinentStatistics>> getContinentStatistics() {
         return ResponseEntity.ok(populationService.getContinentStatistics());
     }
 
@@ -93,10 +115,61 @@ public class PopulationApiController {
         return ResponseEntity.noContent().build();
     }
     
+    @Operation(summary = "여러 국가 인구 히스토리 조회", description = "여러 국가의 연도별 인구 변동 히스토리를 한 번에 조회합니다. 년도 구간과 국가별 최대 점 개수(다운샘플링)를 지정할 수 있습니다. 이력이 없는 국가 코드는 결과에서 제외됩니다.")
+    @GetMapping("/history")
+    public ResponseEntity<Map<String, PopulationSeries>> getPopulationHistories(
+            @RequestParam List<String> codes,
+            @RequestParam(required = false) Integer from,
+            @RequestParam(required = false) Integer to,
+            @RequestParam(required = false) Integer maxPoints) {
+        return ResponseEntity.ok(populationService.getPopulationHistories(codes, from, to, maxPoints));
+    }
+
     @Operation(summary = "인구 히스토리 조회", description = "특정 국가의 연도별 인구 변동 히스토리를 조회합니다.")
     @GetMapping("/history/{countryCode}")
-    public ResponseEntity<List<Map<String, Object>>> getPopulationHistory(
+    public ResponseEntity<PopulationSeries> getPopulationHistory(
             @PathVariable String countryCode) {
         return ResponseEntity.ok(populationService.getPopulationHistory(countryCode));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "인구 히스토리 등록", description = "특정 국가의 연도별 인구 데이터를 추가합니다. 같은 년도가 있으면 교체합니다. (관리자 권한 필요)")
+    @PostMapping("/history/{countryCode}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PopulationHistory> addPopulationHistory(
+            @PathVariable String countryCode,
+            @RequestBody PopulationHistory history) {
+        history.setCountryCode(countryCode);
+        return ResponseEntity.ok(populationService.addPopulationHistory(history));
+    }
+
+    @Operation(summary = "국가 인구 내보내기", description = "전체 국가 인구 데이터를 CSV 또는 NDJSON 으로 스트리밍합니다. gzip=true 면 .gz 파일로 내려갑니다.")
+    @GetMapping("/export/countries")
+    public ResponseEntity<StreamingResponseBody> exportCountries(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        DataFormat dataFormat = DataFormat.of(format);
+        return download("countries", dataFormat, gzip,
+                out -> exportService.exportCountries(dataFormat, gzip, out));
+    }
+
+    @Operation(summary = "인구 히스토리 내보내기", description = "연도별 인구 이력을 CSV 또는 NDJSON 으로 스트리밍합니다. countryCode 를 지정하면 해당 국가만 내보냅니다.")
+    @GetMapping("/export/history")
+    public ResponseEntity<StreamingResponseBody> exportHistory(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String countryCode,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        DataFormat dataFormat = DataFormat.of(format);
+        return download("population_history", dataFormat, gzip,
+                out -> exportService.exportHistory(dataFormat, countryCode, gzip, out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> download(String name, DataFormat format, boolean gzip,
+                                                                  StreamingResponseBody body) {
+        String filename = name + "." + format.extension() + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.contentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.worldpopulation.controller;
 
+import com.example.worldpopulation.dto.ContinentStatistics;
 import com.example.worldpopulation.service.PopulationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -30,7 +31,7 @@ public class StatsController {
 
     @Operation(summary = "대륙별 통계 조회", description = "대륙별 인구 분포 및 통계 정보를 조회합니다.")
     @GetMapping("/continent")
-    public ResponseEntity<List<Map<String, Object>>> getContinentStats() {
+    public ResponseEntity<List<ContinentStatistics>> getContinentStats() {
         return ResponseEntity.ok(populationService.getContinentStatistics());
     }
 }
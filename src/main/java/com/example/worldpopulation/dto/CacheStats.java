@@ -0,0 +1,44 @@
+package com.example.worldpopulation.dto;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "인메모리 캐시 통계")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStats {
+    @Schema(description = "캐시 이름", example = "userDetails")
+    private String name;
+    @Schema(description = "현재 항목 수 (추정치)")
+    private long size;
+    @Schema(description = "적중 횟수")
+    private long hits;
+    @Schema(description = "실패 횟수")
+    private long misses;
+    @Schema(description = "적중률 (0~1)")
+    private double hitRate;
+    @Schema(description = "용량/만료로 제거된 항목 수")
+    private long evictions;
+    @Schema(description = "평균 적재 시간 (밀리초)")
+    private double averageLoadMs;
+
+    public static CacheStats of(String name, Cache<?, ?> cache) {
+        // Caffeine 의 CacheStats 는 이 클래스와 이름이 같아 import 할 수 없음
+        com.github.benmanes.caffeine.cache.stats.CacheStats stats = cache.stats();
+        return CacheStats.builder()
+                .name(name)
+                .size(cache.estimatedSize())
+                .hits(stats.hitCount())
+                .misses(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictions(stats.evictionCount())
+                .averageLoadMs(stats.averageLoadPenalty() / 1_000_000.0)
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.worldpopulation.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 기존 GROUP BY 결과와 같은 JSON 필드명을 유지
+@Schema(description = "대륙별 통계")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContinentStatistics {
+    @Schema(description = "대륙", example = "Asia")
+    private String continent;
+    @Schema(description = "국가 수")
+    @JsonProperty("country_count")
+    private long countryCount;
+    @Schema(description = "총 인구")
+    @JsonProperty("total_population")
+    private long totalPopulation;
+    @Schema(description = "평균 인구")
+    @JsonProperty("avg_population")
+    private double avgPopulation;
+    @Schema(description = "평균 1인당 GDP")
+    @JsonProperty("avg_gdp")
+    private Double avgGdp;
+    @Schema(description = "평균 기대수명")
+    @JsonProperty("avg_life_expectancy")
+    private Double avgLifeExpectancy;
+}
@@ -0,0 +1,19 @@
+package com.example.worldpopulation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "국가 자동완성 항목")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CountrySuggestion {
+    @Schema(description = "국가 코드", example = "KOR")
+    private String countryCode;
+    @Schema(description = "국가명", example = "South Korea")
+    private String countryName;
+}
@@ -0,0 +1,34 @@
+package com.example.worldpopulation.dto;
+
+import com.example.worldpopulation.model.CountryPopulation;
+import com.github.pagehelper.PageInfo;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "대시보드 요약 (국가 목록, 대륙 통계, 총 인구, 상위 국가)")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardSummary {
+    @Schema(description = "국가 목록 (페이징)")
+    private PageInfo<CountryPopulation> countries;
+    @Schema(description = "대륙별 통계")
+    private List<ContinentStatistics> continentStats;
+    @Schema(description = "전 세계 총 인구 (조회 실패 시 null)")
+    private Long totalPopulation;
+    @Schema(description = "인구 상위 국가")
+    private List<CountryPopulation> topCountries;
+    @Schema(description = "조회하지 못한 항목", example = "[\"topCountries\"]")
+    private List<String> failures;
+
+    @Schema(description = "일부 항목이 누락되었는지 여부")
+    public boolean isPartial() {
+        return failures != null && !failures.isEmpty();
+    }
+}
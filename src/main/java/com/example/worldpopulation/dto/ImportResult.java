@@ -0,0 +1,44 @@
+package com.example.worldpopulation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "대량 적재 결과")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResult {
+    @Schema(description = "적재 대상", example = "country_population")
+    private String target;
+    @Schema(description = "입력 형식", example = "CSV")
+    private String format;
+    @Schema(description = "읽은 데이터 행 수")
+    private long rowsRead;
+    @Schema(description = "반영된 행 수")
+    private long rowsImported;
+    @Schema(description = "거부된 행 수")
+    private long rowsRejected;
+    @Schema(description = "소요 시간 (밀리초)")
+    private long elapsedMs;
+    @Schema(description = "초당 처리 행 수")
+    private double rowsPerSecond;
+    @Schema(description = "거부 사유 (일부)")
+    private List<Rejection> rejections;
+
+    @Schema(description = "거부된 행")
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rejection {
+        @Schema(description = "입력 줄 번호 (1부터)")
+        private long line;
+        @Schema(description = "사유")
+        private String reason;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.worldpopulation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "커서 기반 페이지 응답")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeysetPage<T> {
+    @Schema(description = "현재 페이지 데이터")
+    private List<T> list;
+    @Schema(description = "페이지 크기")
+    private int pageSize;
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNextPage;
+    @Schema(description = "다음 페이지 요청에 사용할 커서")
+    private String nextCursor;
+    @Schema(description = "전체 건수 (withTotal 요청 시에만 포함)")
+    private Long total;
+}
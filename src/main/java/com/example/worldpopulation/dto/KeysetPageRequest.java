@@ -0,0 +1,22 @@
+package com.example.worldpopulation.dto;
+
+import com.example.worldpopulation.config.annotation.KeysetPageable;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "커서 기반 페이지 요청")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeysetPageRequest implements KeysetPageable {
+    @Schema(description = "이전 응답의 nextCursor (첫 페이지는 비움)")
+    private String cursor;
+    @Schema(description = "페이지 크기", example = "10")
+    private Integer pageSize;
+    @Schema(description = "전체 건수 포함 여부")
+    private boolean withTotal;
+}
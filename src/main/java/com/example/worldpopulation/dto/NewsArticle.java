@@ -0,0 +1,27 @@
+package com.example.worldpopulation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "뉴스 기사")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsArticle {
+    @Schema(description = "제목")
+    private String title;
+    @Schema(description = "요약")
+    private String description;
+    @Schema(description = "기사 URL")
+    private String url;
+    @Schema(description = "대표 이미지 URL")
+    private String image;
+    @Schema(description = "출처", example = "경제일보")
+    private String source;
+    @Schema(description = "게시 시각 (상대 시간)", example = "2시간 전")
+    private String date;
+}
@@ -0,0 +1,20 @@
+package com.example.worldpopulation.dto;
+
+import com.example.worldpopulation.config.annotation.Pageable;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "페이지 번호 기반 페이지 요청")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageRequest implements Pageable {
+    @Schema(description = "페이지 번호 (1부터)", example = "1")
+    private Integer pageNum;
+    @Schema(description = "페이지 크기", example = "20")
+    private Integer pageSize;
+}
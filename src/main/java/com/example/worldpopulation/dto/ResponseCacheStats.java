@@ -0,0 +1,31 @@
+package com.example.worldpopulation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "응답 캐시 통계")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResponseCacheStats {
+    @Schema(description = "저장된 항목 수")
+    private int entries;
+    @Schema(description = "저장된 바이트 수 (원본 + gzip)")
+    private long bytes;
+    @Schema(description = "최대 항목 수")
+    private int maxEntries;
+    @Schema(description = "최대 바이트 수")
+    private long maxBytes;
+    @Schema(description = "적중 횟수")
+    private long hits;
+    @Schema(description = "실패 횟수 (없음 또는 버전 만료)")
+    private long misses;
+    @Schema(description = "용량 초과로 제거된 항목 수")
+    private long evictions;
+    @Schema(description = "적중률 (0~1)")
+    private double hitRate;
+}
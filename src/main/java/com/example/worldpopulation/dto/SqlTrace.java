@@ -0,0 +1,36 @@
+package com.example.worldpopulation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Schema(description = "SQL 실행 추적 항목")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SqlTrace {
+    @Schema(description = "실행 시각")
+    private Instant timestamp;
+    @Schema(description = "수집 사유 (SLOW: 임계치 초과, SAMPLED: 무작위 표본)", example = "SLOW")
+    private String reason;
+    @Schema(description = "매핑 구문 ID", example = "CountryPopulationMapper.findAll")
+    private String statement;
+    @Schema(description = "실행 SQL (공백 정리)")
+    private String sql;
+    @Schema(description = "바인딩 파라미터 (비밀번호 등은 가림)")
+    private List<String> parameters;
+    @Schema(description = "실행 시간 (밀리초)", example = "312.5")
+    private double elapsedMs;
+    @Schema(description = "조회/변경 행 수 (알 수 없으면 -1)")
+    private long rows;
+    @Schema(description = "오류 메시지 (성공 시 null)")
+    private String error;
+    @Schema(description = "호출 위치 (가까운 순)", example = "[\"PopulationService.getAllCountries:57\", \"PopulationApiController.getAllCountries:40\"]")
+    private List<String> callSite;
+}
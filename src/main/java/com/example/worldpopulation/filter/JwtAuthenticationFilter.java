@@ -1,16 +1,19 @@
 package com.example.worldpopulation.filter;
 
 import com.example.worldpopulation.service.CustomUserDetailsService;
+import com.example.worldpopulation.store.TokenDenylist;
+import com.example.worldpopulation.store.UserRevocationRegistry;
 import com.example.worldpopulation.util.JwtUtil;
+import com.example.worldpopulation.util.VerifiedJwt;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -24,6 +27,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final UserRevocationRegistry revocationRegistry;
+    private final TokenDenylist tokenDenylist;
 
     @Override
     protected void doFilterInternal(
@@ -32,39 +37,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
         
-        String jwt = null;
-        String username = null;
+        // 헤더 또는 쿠키에서 JWT 토큰 추출
+        String jwt = JwtUtil.resolveToken(request);
 
-        // 헤더에서 JWT 토큰 추출
-        final String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            jwt = authHeader.substring(7);
-        }
-
-        // 쿠키에서 JWT 토큰 추출 (헤더에 없는 경우)
-        if (jwt == null && request.getCookies() != null) {
-            for (Cookie cookie : request.getCookies()) {
-                if ("jwt".equals(cookie.getName())) {
-                    jwt = cookie.getValue();
-                    break;
-                }
-            }
-        }
-
-        // JWT 토큰에서 사용자명 추출
+        // JWT 토큰 검증 (서명, 만료를 한 번에 확인)
+        VerifiedJwt verified = null;
         if (jwt != null) {
             try {
-                username = jwtUtil.extractUsername(jwt);
+                verified = jwtUtil.verify(jwt);
             } catch (Exception e) {
                 logger.error("JWT 토큰 파싱 실패: " + e.getMessage());
             }
         }
 
         // 인증 처리
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        if (verified != null && SecurityContextHolder.getContext().getAuthentication() == null
+                && !isRevoked(verified)) {
+            // 권한 클레임이 있으면 DB 조회 없이, 이전 형식 토큰이면 사용자 조회
+            UserDetails userDetails = verified.hasAuthorityClaims()
+                    ? fromClaims(verified)
+                    : this.userDetailsService.loadUserByUsername(verified.username());
             
-            if (jwtUtil.validateToken(jwt, userDetails)) {
+            if (userDetails.isEnabled()) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -77,4 +71,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    /**
+     * 로그아웃으로 폐기된 토큰이거나, 발급 이후 사용자 정보가 바뀐 토큰인지 여부
+     */
+    private boolean isRevoked(VerifiedJwt verified) {
+        return (verified.tokenId() != null && tokenDenylist.isRevoked(verified.tokenId()))
+                || revocationRegistry.isRevoked(verified.username(), verified.issuedAt());
+    }
+
+    private static UserDetails fromClaims(VerifiedJwt verified) {
+        return User.withUsername(verified.username())
+                .password("")
+                .authorities(verified.roles().toArray(new String[0]))
+                .disabled(!verified.enabled())
+                .build();
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.worldpopulation.filter;
+
+import com.example.worldpopulation.interceptor.ConditionalGetInterceptor;
+import com.example.worldpopulation.store.DataVersion;
+import com.example.worldpopulation.store.ResponseCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 자주 조회되는 통계 API 의 응답 바이트 캐시
+ * 데이터 버전이 같으면 컨트롤러와 Jackson 을 거치지 않고 저장된 바이트(또는 gzip 본)를 그대로 씁니다.
+ * Spring Security 필터 뒤에서 실행되므로 인증되지 않은 요청에는 응답하지 않습니다.
+ */
+@Component
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String CACHE_STATUS_HEADER = "X-Response-Cache";
+
+    private final ResponseCache responseCache;
+    private final DataVersion dataVersion;
+    private final Set<String> paths;
+
+    public ResponseCacheFilter(ResponseCache responseCache,
+                               DataVersion dataVersion,
+                               @Value("${app.response-cache.paths:/api/stats,/api/continents/stats,/api/countries/top,/api/population/statistics/total}")
+                               String[] paths) {
+        this.responseCache = responseCache;
+        this.dataVersion = dataVersion;
+        this.paths = Set.copyOf(Arrays.asList(paths));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || !paths.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String key = cacheKey(request);
+        ResponseCache.Entry cached = responseCache.get(key);
+        if (cached != null) {
+            writeCached(request, response, cached);
+            return;
+        }
+
+        // 응답을 만드는 도중 데이터가 바뀌면 다음 조회에서 버전 불일치로 버려지도록 먼저 읽어 둠
+        long version = dataVersion.current().counter();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        wrapper.setHeader(CACHE_STATUS_HEADER, "MISS");
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (isCacheable(wrapper)) {
+                responseCache.put(key, version, wrapper.getContentType(), wrapper.getContentAsByteArray());
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void writeCached(HttpServletRequest request, HttpServletResponse response,
+                             ResponseCache.Entry cached) throws IOException {
+        response.setHeader(CACHE_STATUS_HEADER, "HIT");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (ConditionalGetInterceptor.checkNotModified(request, response, dataVersion.current())) {
+            return;
+        }
+        byte[] body = cached.body();
+        if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = cached.gzipBody();
+        }
+        response.setContentType(cached.contentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Accept-Encoding 이 gzip 을 허용하는지 (q=0 은 거부, gzip 이 없으면 * 의 q 값을 따름)
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean accepted = quality(parts) > 0;
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                return accepted;
+            }
+            if (name.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static boolean isCacheable(ContentCachingResponseWrapper response) {
+        String contentType = response.getContentType();
+        return response.getStatus() == HttpServletResponse.SC_OK
+                && contentType != null
+                && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType))
+                && response.getHeader(HttpHeaders.CONTENT_ENCODING) == null;
+    }
+
+    /**
+     * 경로 + 정렬된 쿼리 파라미터
+     */
+    private static String cacheKey(HttpServletRequest request) {
+        Map<String, String[]> params = request.getParameterMap();
+        if (params.isEmpty()) {
+            return request.getRequestURI();
+        }
+        StringBuilder key = new StringBuilder(request.getRequestURI()).append('?');
+        for (Map.Entry<String, String[]> param : new TreeMap<>(params).entrySet()) {
+            key.append(param.getKey()).append('=').append(String.join(",", param.getValue())).append('&');
+        }
+        return key.toString();
+    }
+}
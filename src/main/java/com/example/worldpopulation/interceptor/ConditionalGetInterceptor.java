@@ -0,0 +1,45 @@
+package com.example.worldpopulation.interceptor;
+
+import com.example.worldpopulation.store.DataVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 데이터 버전 기반 조건부 GET
+ * 모든 조회 응답에 ETag / Last-Modified 를 붙이고, 클라이언트가 가진 버전이 최신이면
+ * 컨트롤러를 실행하지 않고 304 로 응답합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    // 인증이 필요한 응답이므로 공유 캐시에는 저장하지 않고, 매번 재검증
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final DataVersion dataVersion;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return true;
+        }
+        return !checkNotModified(request, response, dataVersion.current());
+    }
+
+    /**
+     * 캐시 검증 헤더를 붙이고, 클라이언트 버전이 최신이면 304 로 설정
+     * @return 304 로 응답했으면 true
+     */
+    public static boolean checkNotModified(HttpServletRequest request, HttpServletResponse response,
+                                           DataVersion.Stamp stamp) {
+        // Spring Security 의 기본 no-store 헤더 대신 재검증 가능한 캐시 정책 사용
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        return new ServletWebRequest(request, response).checkNotModified(stamp.etag(), stamp.lastModified());
+    }
+}
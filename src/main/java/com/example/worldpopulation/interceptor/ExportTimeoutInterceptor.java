@@ -0,0 +1,37 @@
+package com.example.worldpopulation.interceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * 내보내기 스트리밍 응답에만 긴 비동기 타임아웃 적용
+ * StreamingResponseBody 는 비동기 요청으로 처리되므로 전역 타임아웃을 늘리는 대신 내보내기 경로만 늘립니다.
+ */
+@Component
+public class ExportTimeoutInterceptor implements CallableProcessingInterceptor {
+
+    private static final String EXPORT_PATH = "/api/population/export/";
+
+    private final long timeoutMillis;
+
+    public ExportTimeoutInterceptor(@Value("${app.export.async-timeout:10m}") Duration timeout) {
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        // 비동기 처리 시작 직전이므로 여기서 바꾼 값이 이번 요청의 타임아웃이 됨
+        HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+        if (request instanceof AsyncWebRequest asyncRequest && servletRequest != null
+                && servletRequest.getRequestURI().startsWith(servletRequest.getContextPath() + EXPORT_PATH)) {
+            asyncRequest.setTimeout(timeoutMillis);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.worldpopulation.interceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매핑 구문별 SQL 메트릭 (MyBatis 플러그인)
+ * 구문 ID(예: CountryPopulationMapper.findAll)마다 실행 시간 히스토그램, 처리 행 수, 오류 수를 Micrometer 로 기록합니다.
+ * /actuator/metrics/mybatis.statement?tag=statement:... 로 확인할 수 있습니다.
+ */
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class SqlMetricsInterceptor implements Interceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    // 구문 ID → 미터 (요청마다 빌더를 만들지 않도록)
+    private final Map<String, StatementMeters> meters = new ConcurrentHashMap<>();
+
+    public SqlMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        StatementMeters statement = meters.computeIfAbsent(ms.getId(), id -> new StatementMeters(meterRegistry, ms));
+
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            statement.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            long rows = rows(result);
+            // 배치 실행기의 update 는 실제 행 수 대신 음수 상수를 반환
+            if (rows >= 0) {
+                statement.rows.record(rows);
+            }
+            return result;
+        } catch (Throwable e) {
+            statement.failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            statement.errors.increment();
+            throw e;
+        }
+    }
+
+    private static long rows(Object result) {
+        if (result instanceof Collection<?> list) {
+            return list.size();
+        }
+        if (result instanceof Integer count) {
+            return count;
+        }
+        return -1;
+    }
+
+    /**
+     * 패키지를 뺀 구문 ID (예: com.example...mapper.UserMapper.findByUsername → UserMapper.findByUsername)
+     */
+    static String shortId(String id) {
+        int method = id.lastIndexOf('.');
+        int type = method > 0 ? id.lastIndexOf('.', method - 1) : -1;
+        return id.substring(type + 1);
+    }
+
+    private static final class StatementMeters {
+        private final Timer success;
+        private final Timer failure;
+        private final DistributionSummary rows;
+        private final Counter errors;
+
+        StatementMeters(MeterRegistry registry, MappedStatement ms) {
+            String statement = shortId(ms.getId());
+            String command = ms.getSqlCommandType().name().toLowerCase(Locale.ROOT);
+            this.success = timer(registry, statement, command, "success");
+            this.failure = timer(registry, statement, command, "error");
+            this.rows = DistributionSummary.builder("mybatis.statement.rows")
+                    .description("구문별 조회/변경 행 수")
+                    .tag("statement", statement)
+                    .tag("command", command)
+                    .register(registry);
+            this.errors = Counter.builder("mybatis.statement.errors")
+                    .description("구문별 실행 오류 수")
+                    .tag("statement", statement)
+                    .tag("command", command)
+                    .register(registry);
+        }
+
+        private static Timer timer(MeterRegistry registry, String statement, String command, String outcome) {
+            return Timer.builder("mybatis.statement")
+                    .description("구문별 실행 시간")
+                    .tag("statement", statement)
+                    .tag("command", command)
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.99)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.worldpopulation.interceptor;
+
+import com.example.worldpopulation.dto.SqlTrace;
+import com.example.worldpopulation.store.SqlTraceBuffer;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * 느린 쿼리 + 표본 SQL 추적 (MyBatis 플러그인)
+ * 임계치를 넘은 구문과, 나머지 중 sample-rate 비율의 무작위 표본만 바인딩 값과 호출 위치를 붙여 {@link SqlTraceBuffer} 에 남깁니다.
+ * 수집하지 않는 실행은 시간 측정과 난수 한 번만 추가되므로, 모든 구문을 로그로 남기는 방식과 달리 부하에 비례해 비용이 늘지 않습니다.
+ */
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class SqlTraceInterceptor implements Interceptor {
+
+    private static final String APP_PACKAGE = "com.example.worldpopulation.";
+    private static final int CALL_SITE_DEPTH = 2;
+    private static final int MAX_VALUE_LENGTH = 100;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final SqlTraceBuffer buffer;
+    private final boolean enabled;
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+
+    public SqlTraceInterceptor(SqlTraceBuffer buffer,
+                               @Value("${app.sql-trace.enabled:true}") boolean enabled,
+                               @Value("${app.sql-trace.slow-threshold:200ms}") Duration slowThreshold,
+                               @Value("${app.sql-trace.sample-rate:0.001}") double sampleRate) {
+        this.buffer = buffer;
+        this.enabled = enabled;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if (!enabled) {
+            return invocation.proceed();
+        }
+
+        long start = System.nanoTime();
+        Object result = null;
+        Throwable error = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            String reason = elapsed >= slowThresholdNanos ? "SLOW"
+                    : sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate ? "SAMPLED"
+                    : null;
+            if (reason != null) {
+                buffer.add(trace(invocation.getArgs(), reason, elapsed, result, error));
+            }
+        }
+    }
+
+    private static SqlTrace trace(Object[] args, String reason, long elapsedNanos, Object result, Throwable error) {
+        MappedStatement ms = (MappedStatement) args[0];
+        Object parameter = args[1];
+        BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : ms.getBoundSql(parameter);
+
+        return SqlTrace.builder()
+                .timestamp(Instant.now())
+                .reason(reason)
+                .statement(SqlMetricsInterceptor.shortId(ms.getId()))
+                .sql(WHITESPACE.matcher(boundSql.getSql()).replaceAll(" ").trim())
+                .parameters(parameters(ms.getConfiguration(), boundSql, parameter))
+                .elapsedMs(elapsedNanos / 1_000_000.0)
+                .rows(result instanceof Collection<?> list ? list.size() : result instanceof Integer count ? count : -1)
+                .error(error != null ? error.getClass().getSimpleName() + ": " + error.getMessage() : null)
+                .callSite(callSite())
+                .build();
+    }
+
+    /**
+     * 바인딩 값 (MyBatis DefaultParameterHandler 와 같은 순서로 해석)
+     */
+    private static List<String> parameters(Configuration configuration, BoundSql boundSql, Object parameter) {
+        List<ParameterMapping> mappings = boundSql.getParameterMappings();
+        List<String> values = new ArrayList<>(mappings.size());
+        MetaObject metaObject = null;
+        for (ParameterMapping mapping : mappings) {
+            String property = mapping.getProperty();
+            Object value;
+            if (boundSql.hasAdditionalParameter(property)) {
+                value = boundSql.getAdditionalParameter(property);
+            } else if (parameter == null) {
+                value = null;
+            } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameter.getClass())) {
+                value = parameter;
+            } else {
+                if (metaObject == null) {
+                    metaObject = configuration.newMetaObject(parameter);
+                }
+                value = metaObject.getValue(property);
+            }
+            values.add(format(property, value));
+        }
+        return values;
+    }
+
+    private static String format(String property, Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (property.toLowerCase(Locale.ROOT).contains("password")) {
+            return "****";
+        }
+        String text = String.valueOf(value);
+        return text.length() > MAX_VALUE_LENGTH ? text.substring(0, MAX_VALUE_LENGTH) + "…" : text;
+    }
+
+    /**
+     * 가장 가까운 애플리케이션 호출 위치 (서비스, 컨트롤러 순)
+     * 매퍼, 인터셉터, AOP 와 Spring 프록시 클래스는 건너뜁니다.
+     */
+    private static List<String> callSite() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> {
+                    String className = frame.getClassName();
+                    return className.startsWith(APP_PACKAGE)
+                            && !className.startsWith(APP_PACKAGE + "interceptor.")
+                            && !className.startsWith(APP_PACKAGE + "mapper.")
+                            && !className.startsWith(APP_PACKAGE + "config.aop.")
+                            && !className.contains("$$");
+                })
+                .limit(CALL_SITE_DEPTH)
+                .map(frame -> {
+                    String className = frame.getClassName();
+                    return className.substring(className.lastIndexOf('.') + 1)
+                            + "." + frame.getMethodName() + ":" + frame.getLineNumber();
+                })
+                .toList());
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.worldpopulation.interceptor;
+
+import com.example.worldpopulation.store.TableVersions;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 변경 구문의 대상 테이블 버전 증가 (MyBatis 플러그인)
+ * INSERT/UPDATE/DELETE 의 SQL 에서 대상 테이블을 찾아 TableVersions 를 올립니다.
+ * 트랜잭션 안이면 커밋/롤백 후에 한 번 더 올려, 커밋 전 데이터로 계산된 건수가 새 버전에 남지 않게 합니다.
+ */
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class TableVersionInterceptor implements Interceptor {
+
+    private static final Pattern TARGET_TABLE = Pattern.compile(
+            "^\\s*(?:insert\\s+(?:ignore\\s+)?into|replace\\s+into|update(?:\\s+ignore)?|delete\\s+from)\\s+[`\"]?(\\w+)",
+            Pattern.CASE_INSENSITIVE);
+
+    private final TableVersions tableVersions;
+
+    // 구문 ID → 대상 테이블 (알 수 없으면 빈 값)
+    private final Map<String, Optional<String>> tables = new ConcurrentHashMap<>();
+
+    public TableVersionInterceptor(TableVersions tableVersions) {
+        this.tableVersions = tableVersions;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        Object parameter = invocation.getArgs()[1];
+        String table = tables.computeIfAbsent(ms.getId(),
+                id -> targetTable(ms.getBoundSql(parameter).getSql())).orElse(null);
+        try {
+            return invocation.proceed();
+        } finally {
+            tableVersions.bump(table);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                bumpAfterCompletion(table);
+            }
+        }
+    }
+
+    /**
+     * 트랜잭션 종료 후 버전 증가 예약 (배치 적재처럼 구문이 많아도 트랜잭션당 테이블별 한 번)
+     */
+    @SuppressWarnings("unchecked")
+    private void bumpAfterCompletion(String table) {
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<String> bound = new HashSet<>();
+            pending = bound;
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TableVersionInterceptor.this);
+                    bound.forEach(name -> tableVersions.bump(name.isEmpty() ? null : name));
+                }
+            });
+        }
+        pending.add(table != null ? table : "");
+    }
+
+    static Optional<String> targetTable(String sql) {
+        Matcher matcher = TARGET_TABLE.matcher(sql);
+        return matcher.find() ? Optional.of(matcher.group(1).toLowerCase(Locale.ROOT)) : Optional.empty();
+    }
+}
@@ -3,6 +3,7 @@ package com.example.worldpopulation.mapper;
 import com.example.worldpopulation.model.CountryPopulation;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 import java.util.Map;
@@ -12,6 +13,11 @@ import java.util.Optional;
 public interface CountryPopulationMapper {
     
     List<CountryPopulation> findAll();
+
+    /**
+     * 전체 국가 순차 조회 (내보내기용, 트랜잭션 안에서 사용)
+     */
+    Cursor<CountryPopulation> streamAll();
     
     Optional<CountryPopulation> findByCountryCode(@Param("countryCode") String countryCode);
     
@@ -28,6 +34,11 @@ public interface CountryPopulationMapper {
     void insert(CountryPopulation country);
     
     void update(CountryPopulation country);
+
+    /**
+     * 국가 코드 기준 등록 또는 갱신 (대량 적재용)
+     */
+    void upsert(CountryPopulation country);
     
     void delete(@Param("countryCode") String countryCode);
 }
\ No newline at end of file
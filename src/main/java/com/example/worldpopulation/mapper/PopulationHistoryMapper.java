@@ -1,7 +1,9 @@
 package com.example.worldpopulation.mapper;
 
+import com.example.worldpopulation.model.PopulationHistory;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 import java.util.Map;
@@ -16,6 +18,13 @@ public interface PopulationHistoryMapper {
      */
     List<Map<String, Object>> findByCountryCode(@Param("countryCode") String countryCode);
     
+    /**
+     * 인구 변화 이력 순차 조회 (내보내기용, 트랜잭션 안에서 사용)
+     * @param countryCode 국가 코드 (null 이면 전체)
+     * @return 국가 코드, 년도 순 커서
+     */
+    Cursor<PopulationHistory> streamAll(@Param("countryCode") String countryCode);
+
     /**
      * 인구 변화 이력 삽입
      * @param countryCode 국가 코드
@@ -27,4 +36,10 @@ public interface PopulationHistoryMapper {
                 @Param("year") Integer year,
                 @Param("population") Long population,
                 @Param("growthRate") Double growthRate);
+
+    /**
+     * 국가 코드와 년도 기준 등록 또는 갱신 (대량 적재용)
+     * @param history 인구 이력
+     */
+    void upsert(PopulationHistory history);
 }
\ No newline at end of file
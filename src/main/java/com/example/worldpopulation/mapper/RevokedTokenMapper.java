@@ -0,0 +1,28 @@
+package com.example.worldpopulation.mapper;
+
+import com.example.worldpopulation.model.RevokedToken;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface RevokedTokenMapper {
+
+    /**
+     * 아직 만료되지 않은 폐기 토큰 조회
+     */
+    List<RevokedToken> findActive(@Param("now") LocalDateTime now);
+
+    /**
+     * 폐기 토큰 등록 (이미 있으면 무시)
+     */
+    void insert(RevokedToken token);
+
+    /**
+     * 만료된 폐기 토큰 삭제
+     * @return 삭제된 행 수
+     */
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -17,10 +17,22 @@ public interface UserMapper {
     Optional<User> findById(@Param("id") Long id);
     
     List<User> findAll();
+
+    /**
+     * 조건별 사용자 목록 (최근 가입순, 페이징은 PageHelper 가 적용)
+     * @param role 권한 (null 이면 전체)
+     * @param keyword 아이디/이메일/이름 부분 일치 (null 이면 전체)
+     */
+    List<User> findPage(@Param("role") String role, @Param("keyword") String keyword);
     
     void insert(User user);
     
     void update(User user);
+
+    /**
+     * 비밀번호 해시 교체 (해시 강도 변경 시 재해시용)
+     */
+    void updatePassword(@Param("id") Long id, @Param("password") String password);
     
     void delete(@Param("id") Long id);
 }
\ No newline at end of file
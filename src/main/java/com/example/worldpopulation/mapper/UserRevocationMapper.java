@@ -0,0 +1,28 @@
+package com.example.worldpopulation.mapper;
+
+import com.example.worldpopulation.model.UserRevocation;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface UserRevocationMapper {
+
+    /**
+     * 주어진 시각 이후의 무효화 기록 조회
+     */
+    List<UserRevocation> findSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 무효화 시각 저장 (이미 있으면 갱신)
+     */
+    void upsert(UserRevocation revocation);
+
+    /**
+     * 주어진 시각 이전의 무효화 기록 삭제
+     * @return 삭제된 행 수
+     */
+    int deleteBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,23 @@
+package com.example.worldpopulation.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "국가별 연도 인구 이력")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PopulationHistory {
+    @Schema(description = "국가 코드", example = "KOR")
+    private String countryCode;
+    @Schema(description = "년도", example = "2023")
+    private Integer year;
+    @Schema(description = "인구 수")
+    private Long population;
+    @Schema(description = "성장률 (%)")
+    private Double growthRate;
+}
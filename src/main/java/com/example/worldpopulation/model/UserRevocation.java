@@ -0,0 +1,17 @@
+package com.example.worldpopulation.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserRevocation {
+    private String username;
+    private LocalDateTime revokedAt;
+}
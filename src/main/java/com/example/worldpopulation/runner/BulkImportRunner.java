@@ -0,0 +1,85 @@
+package com.example.worldpopulation.runner;
+
+import com.example.worldpopulation.dto.ImportResult;
+import com.example.worldpopulation.service.BulkImportService;
+import com.example.worldpopulation.service.DataFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 명령행 대량 적재
+ * 예) java -jar app.jar --app.import.countries-file=wpp.csv --app.import.history-file=history.ndjson.gz --app.import.exit=true
+ * 확장자로 형식을 판단합니다 (.ndjson / .jsonl 은 NDJSON, 그 외 CSV, .gz 는 압축 해제).
+ * app.import.exit=true 이면 웹 서버 없이 실행됩니다. 별도 프로세스에서 적재한 데이터는 실행 중인 서버의
+ * 메모리 스냅샷에 반영되지 않으므로 적재 후 POST /api/admin/reload 를 호출하거나 서버를 재시작해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkImportRunner implements ApplicationRunner {
+
+    private final BulkImportService bulkImportService;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${app.import.countries-file:}")
+    private String countriesFile;
+
+    @Value("${app.import.history-file:}")
+    private String historyFile;
+
+    @Value("${app.import.exit:false}")
+    private boolean exitAfterImport;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!StringUtils.hasText(countriesFile) && !StringUtils.hasText(historyFile)) {
+            return;
+        }
+        // 이력은 국가를 참조하므로 국가 먼저 적재
+        if (StringUtils.hasText(countriesFile)) {
+            Path path = Path.of(countriesFile);
+            try (InputStream in = open(path)) {
+                report(path, bulkImportService.importCountries(in, formatOf(path)));
+            }
+        }
+        if (StringUtils.hasText(historyFile)) {
+            Path path = Path.of(historyFile);
+            try (InputStream in = open(path)) {
+                report(path, bulkImportService.importHistory(in, formatOf(path)));
+            }
+        }
+        if (exitAfterImport) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    private static InputStream open(Path path) throws IOException {
+        InputStream in = Files.newInputStream(path);
+        return path.getFileName().toString().endsWith(".gz") ? new GZIPInputStream(in, 64 * 1024) : in;
+    }
+
+    private static DataFormat formatOf(Path path) {
+        return DataFormat.ofFileName(path.getFileName().toString());
+    }
+
+    private static void report(Path path, ImportResult result) {
+        log.info("{} → {}: read {}, imported {}, rejected {} ({} ms, {} rows/s)",
+                path, result.getTarget(), result.getRowsRead(), result.getRowsImported(),
+                result.getRowsRejected(), result.getElapsedMs(), Math.round(result.getRowsPerSecond()));
+        result.getRejections().forEach(rejection ->
+                log.warn("  line {}: {}", rejection.getLine(), rejection.getReason()));
+    }
+}
@@ -4,45 +4,94 @@ import com.example.worldpopulation.dto.AuthRequest;
 import com.example.worldpopulation.dto.AuthResponse;
 import com.example.worldpopulation.mapper.UserMapper;
 import com.example.worldpopulation.model.User;
+import com.example.worldpopulation.store.TokenDenylist;
 import com.example.worldpopulation.util.JwtUtil;
-import lombok.RequiredArgsConstructor;
+import com.example.worldpopulation.util.VerifiedJwt;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AuthService {
 
     private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashing;
     private final JwtUtil jwtUtil;
-    private final AuthenticationManager authenticationManager;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenDenylist tokenDenylist;
+
+    private final Timer loginSuccess;
+    private final Timer loginFailure;
+
+    public AuthService(UserMapper userMapper,
+                       PasswordHashingService passwordHashing,
+                       JwtUtil jwtUtil,
+                       CustomUserDetailsService userDetailsService,
+                       TokenDenylist tokenDenylist,
+                       MeterRegistry meterRegistry) {
+        this.userMapper = userMapper;
+        this.passwordHashing = passwordHashing;
+        this.jwtUtil = jwtUtil;
+        this.userDetailsService = userDetailsService;
+        this.tokenDenylist = tokenDenylist;
+        this.loginSuccess = loginTimer(meterRegistry, "success");
+        this.loginFailure = loginTimer(meterRegistry, "failure");
+    }
 
+    /**
+     * 로그인
+     * 사용자는 한 번만 조회하고, 비밀번호 확인은 BCrypt 전용 풀에서 실행합니다.
+     * 저장된 해시가 현재 설정보다 약하면 새 강도로 다시 저장합니다.
+     */
     public AuthResponse authenticate(AuthRequest request) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getUsername(),
-                        request.getPassword()
-                )
-        );
+        long started = System.nanoTime();
+        boolean success = false;
+        try {
+            AuthResponse response = login(request);
+            success = true;
+            return response;
+        } finally {
+            (success ? loginSuccess : loginFailure).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(request.getUsername());
-        log.info("userDetails: {}", userDetails);
+    private AuthResponse login(AuthRequest request) {
+        User user = userMapper.findByUsername(request.getUsername()).orElse(null);
 
-        String token = jwtUtil.generateToken(userDetails);
-        log.info("token: {}", token);
+        if (!passwordHashing.matches(request.getPassword(), user != null ? user.getPassword() : null)) {
+            throw new BadCredentialsException("아이디 또는 비밀번호가 올바르지 않습니다");
+        }
+        if (!Boolean.TRUE.equals(user.getEnabled())) {
+            throw new DisabledException("비활성화된 계정입니다");
+        }
 
+        if (passwordHashing.needsRehash(user.getPassword())) {
+            userMapper.updatePassword(user.getId(), passwordHashing.encode(request.getPassword()));
+            userDetailsService.evict(user.getUsername());
+            log.info("비밀번호 해시 강도 갱신 - username: {}", user.getUsername());
+        }
 
-        User user = userMapper.findByUsername(request.getUsername())
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+        UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
+                .username(user.getUsername())
+                .password(user.getPassword())
+                .authorities(Collections.singletonList(
+                        new SimpleGrantedAuthority("ROLE_" + user.getRole())))
+                .build();
+
+        String token = jwtUtil.generateToken(userDetails);
+        log.info("로그인 - username: {}", user.getUsername());
 
         return AuthResponse.builder()
                 .token(token)
@@ -62,13 +111,42 @@ public class AuthService {
             throw new RuntimeException("이미 등록된 이메일입니다");
         }
 
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        user.setPassword(passwordHashing.encode(user.getPassword()));
         user.setEnabled(true);
         if (user.getRole() == null) {
             user.setRole("USER");
         }
 
         userMapper.insert(user);
+        // 이전에 없는 사용자로 조회된 적이 있어도 새 정보로 다시 읽도록
+        userDetailsService.evict(user.getUsername());
         return user;
     }
-}
\ No newline at end of file
+
+    /**
+     * 로그아웃
+     * 토큰을 만료 시각까지 폐기합니다. 이미 만료되었거나 검증되지 않는 토큰은 무시합니다.
+     */
+    public void logout(String token) {
+        if (token == null) {
+            return;
+        }
+        VerifiedJwt verified;
+        try {
+            verified = jwtUtil.verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return;
+        }
+        if (verified.tokenId() != null) {
+            tokenDenylist.revoke(verified.tokenId(), verified.expiresAt());
+        }
+    }
+
+    private static Timer loginTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.login")
+                .description("로그인 처리 시간")
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,415 @@
+package com.example.worldpopulation.service;
+
+import com.example.worldpopulation.dto.ImportResult;
+import com.example.worldpopulation.mapper.CountryPopulationMapper;
+import com.example.worldpopulation.mapper.PopulationHistoryMapper;
+import com.example.worldpopulation.model.CountryPopulation;
+import com.example.worldpopulation.model.PopulationHistory;
+import com.example.worldpopulation.store.CountrySnapshotStore;
+import com.example.worldpopulation.store.PopulationHistoryStore;
+import com.example.worldpopulation.util.CsvUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * CSV / NDJSON 대량 적재
+ * 입력을 한 줄씩 읽어 청크 단위로 병렬 파싱하고, 청크마다 하나의 트랜잭션에서
+ * MyBatis BATCH 실행기로 upsert 합니다. 동시에 메모리에 올라가는 청크 수는 병렬도 + 1 로 제한됩니다.
+ */
+@Slf4j
+@Service
+public class BulkImportService {
+
+    private static final Pattern COUNTRY_CODE = Pattern.compile("[A-Za-z]{2,3}");
+
+    private final SqlSessionTemplate batchSqlSession;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final CountrySnapshotStore snapshotStore;
+    private final PopulationHistoryStore historyStore;
+    private final int chunkSize;
+    private final int parallelism;
+    private final int maxRejections;
+
+    public BulkImportService(SqlSessionFactory sqlSessionFactory,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             CountrySnapshotStore snapshotStore,
+                             PopulationHistoryStore historyStore,
+                             @Value("${app.import.chunk-size:1000}") int chunkSize,
+                             @Value("${app.import.parallelism:4}") int parallelism,
+                             @Value("${app.import.max-rejections:100}") int maxRejections) {
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.snapshotStore = snapshotStore;
+        this.historyStore = historyStore;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.maxRejections = maxRejections;
+    }
+
+    /**
+     * 국가 인구 데이터 적재 (country_code 기준 upsert)
+     */
+    public ImportResult importCountries(InputStream input, DataFormat format) throws IOException {
+        ImportResult result = run("country_population", input, format, this::toCountry, rows -> {
+            CountryPopulationMapper mapper = batchSqlSession.getMapper(CountryPopulationMapper.class);
+            rows.forEach(mapper::upsert);
+        });
+        if (result.getRowsImported() > 0) {
+            snapshotStore.refresh();
+        }
+        return result;
+    }
+
+    /**
+     * 인구 이력 데이터 적재 ((country_code, year) 기준 upsert)
+     */
+    public ImportResult importHistory(InputStream input, DataFormat format) throws IOException {
+        ImportResult result = run("population_history", input, format, this::toHistory, rows -> {
+            PopulationHistoryMapper mapper = batchSqlSession.getMapper(PopulationHistoryMapper.class);
+            rows.forEach(mapper::upsert);
+        });
+        if (result.getRowsImported() > 0) {
+            historyStore.invalidate();
+        }
+        return result;
+    }
+
+    private <T> ImportResult run(String target, InputStream input, DataFormat format,
+                                 RowConverter<T> converter, Consumer<List<T>> writer) throws IOException {
+        long started = System.nanoTime();
+        Progress progress = new Progress();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        long lineNo = 0;
+        Map<String, Integer> header = null;
+        if (format == DataFormat.CSV) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                return progress.toResult(target, format, started);
+            }
+            lineNo++;
+            header = parseHeader(headerLine);
+        }
+        RecordParser parser = format == DataFormat.CSV ? csvParser(header) : this::ndjsonRecord;
+
+        Deque<Future<ParsedChunk<T>>> inFlight = new ArrayDeque<>();
+        try (ExecutorService parsers = Executors.newFixedThreadPool(parallelism)) {
+            List<String> lines = new ArrayList<>(chunkSize);
+            long firstLine = lineNo + 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                lines.add(line);
+                if (lines.size() == chunkSize) {
+                    inFlight.add(submit(parsers, parser, converter, firstLine, lines));
+                    lines = new ArrayList<>(chunkSize);
+                    firstLine = lineNo + 1;
+                    // 파싱이 적재보다 앞서 나가더라도 대기 청크 수를 제한
+                    if (inFlight.size() > parallelism) {
+                        write(await(inFlight.poll()), writer, progress);
+                    }
+                }
+            }
+            if (!lines.isEmpty()) {
+                inFlight.add(submit(parsers, parser, converter, firstLine, lines));
+            }
+            while (!inFlight.isEmpty()) {
+                write(await(inFlight.poll()), writer, progress);
+            }
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+
+        ImportResult result = progress.toResult(target, format, started);
+        log.info("대량 적재 완료 - target: {}, read: {}, imported: {}, rejected: {}, {} rows/s",
+                target, result.getRowsRead(), result.getRowsImported(), result.getRowsRejected(),
+                Math.round(result.getRowsPerSecond()));
+        return result;
+    }
+
+    private <T> Future<ParsedChunk<T>> submit(ExecutorService parsers, RecordParser parser,
+                                              RowConverter<T> converter, long firstLine, List<String> lines) {
+        return parsers.submit(() -> {
+            ParsedChunk<T> chunk = new ParsedChunk<>(firstLine, lines.size());
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i);
+                if (line.isBlank()) {
+                    continue;
+                }
+                chunk.read++;
+                try {
+                    chunk.rows.add(converter.convert(parser.parse(line)));
+                } catch (RuntimeException e) {
+                    chunk.rejections.add(new ImportResult.Rejection(firstLine + i, e.getMessage()));
+                }
+            }
+            return chunk;
+        });
+    }
+
+    private <T> ParsedChunk<T> await(Future<ParsedChunk<T>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("대량 적재가 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("대량 적재 파싱 실패", e.getCause());
+        }
+    }
+
+    private <T> void write(ParsedChunk<T> chunk, Consumer<List<T>> writer, Progress progress) {
+        progress.read += chunk.read;
+        progress.rejected += chunk.rejections.size();
+        chunk.rejections.forEach(progress::report);
+
+        if (chunk.rows.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                writer.accept(chunk.rows);
+                batchSqlSession.flushStatements();
+            });
+            progress.imported += chunk.rows.size();
+        } catch (RuntimeException e) {
+            // 배치 실행은 어느 행이 실패했는지 알 수 없으므로 청크 전체를 거부로 집계
+            log.warn("청크 적재 실패 - line {}~{}: {}", chunk.firstLine, chunk.firstLine + chunk.lines - 1, e.getMessage());
+            progress.rejected += chunk.rows.size();
+            progress.report(new ImportResult.Rejection(chunk.firstLine,
+                    "청크 적재 실패 (" + chunk.rows.size() + "행): " + rootMessage(e)));
+        }
+    }
+
+    // ===== 입력 형식 =====
+
+    private Map<String, Integer> parseHeader(String headerLine) {
+        // UTF-8 BOM 제거
+        if (!headerLine.isEmpty() && headerLine.charAt(0) == '﻿') {
+            headerLine = headerLine.substring(1);
+        }
+        Map<String, Integer> header = new HashMap<>();
+        List<String> columns = CsvUtils.parseLine(headerLine);
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columnKey(columns.get(i)), i);
+        }
+        return header;
+    }
+
+    private RecordParser csvParser(Map<String, Integer> header) {
+        return line -> {
+            List<String> fields = CsvUtils.parseLine(line);
+            return column -> {
+                Integer index = header.get(column);
+                return index != null && index < fields.size() ? fields.get(index) : null;
+            };
+        };
+    }
+
+    private ImportRecord ndjsonRecord(String line) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식 오류: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("JSON 객체가 아닙니다");
+        }
+        Map<String, String> values = new HashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = it.next();
+            values.put(columnKey(field.getKey()), field.getValue().isNull() ? null : field.getValue().asText());
+        }
+        return values::get;
+    }
+
+    /**
+     * 컬럼명 정규화 (country_code, countryCode, Country Code 를 같은 키로)
+     */
+    private static String columnKey(String column) {
+        return column.replaceAll("[\\s_\\-]", "").toLowerCase(Locale.ROOT);
+    }
+
+    // ===== 행 변환 =====
+
+    private CountryPopulation toCountry(ImportRecord record) {
+        return CountryPopulation.builder()
+                .countryCode(requireCountryCode(record))
+                .countryName(require(record, "countryname"))
+                .continent(text(record, "continent"))
+                .population(requireLong(record, "population"))
+                .areaSqKm(decimal(record, "areasqkm"))
+                .populationDensity(decimal(record, "populationdensity"))
+                .gdpPerCapita(decimal(record, "gdppercapita"))
+                .lifeExpectancy(decimal(record, "lifeexpectancy"))
+                .year(integer(record, "year"))
+                .build();
+    }
+
+    private PopulationHistory toHistory(ImportRecord record) {
+        Integer year = integer(record, "year");
+        if (year == null) {
+            throw new IllegalArgumentException("필수 값 누락: year");
+        }
+        BigDecimal growthRate = decimal(record, "growthrate");
+        return PopulationHistory.builder()
+                .countryCode(requireCountryCode(record))
+                .year(year)
+                .population(requireLong(record, "population"))
+                .growthRate(growthRate != null ? growthRate.doubleValue() : null)
+                .build();
+    }
+
+    private static String text(ImportRecord record, String column) {
+        String value = record.get(column);
+        if (value == null) {
+            return null;
+        }
+        value = value.trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String require(ImportRecord record, String column) {
+        String value = text(record, column);
+        if (value == null) {
+            throw new IllegalArgumentException("필수 값 누락: " + column);
+        }
+        return value;
+    }
+
+    private static String requireCountryCode(ImportRecord record) {
+        String code = require(record, "countrycode");
+        if (!COUNTRY_CODE.matcher(code).matches()) {
+            throw new IllegalArgumentException("잘못된 국가 코드: " + code);
+        }
+        return code.toUpperCase(Locale.ROOT);
+    }
+
+    private static Long requireLong(ImportRecord record, String column) {
+        BigDecimal value = decimal(record, column);
+        if (value == null) {
+            throw new IllegalArgumentException("필수 값 누락: " + column);
+        }
+        if (value.signum() < 0) {
+            throw new IllegalArgumentException("음수는 허용되지 않습니다: " + column);
+        }
+        return value.setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    private static Integer integer(ImportRecord record, String column) {
+        BigDecimal value = decimal(record, column);
+        return value != null ? value.intValueExact() : null;
+    }
+
+    private static BigDecimal decimal(ImportRecord record, String column) {
+        String value = text(record, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value.replace(",", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("숫자 형식 오류: " + column + "=" + value);
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    // ===== 내부 타입 =====
+
+    @FunctionalInterface
+    private interface ImportRecord {
+        String get(String column);
+    }
+
+    @FunctionalInterface
+    private interface RecordParser {
+        ImportRecord parse(String line);
+    }
+
+    @FunctionalInterface
+    private interface RowConverter<T> {
+        T convert(ImportRecord record);
+    }
+
+    private static final class ParsedChunk<T> {
+        private final long firstLine;
+        private final int lines;
+        private final List<T> rows = new ArrayList<>();
+        private final List<ImportResult.Rejection> rejections = new ArrayList<>();
+        private long read;
+
+        private ParsedChunk(long firstLine, int lines) {
+            this.firstLine = firstLine;
+            this.lines = lines;
+        }
+    }
+
+    private final class Progress {
+        private long read;
+        private long imported;
+        private long rejected;
+        private final List<ImportResult.Rejection> rejections = new ArrayList<>();
+
+        void report(ImportResult.Rejection rejection) {
+            if (rejections.size() < maxRejections) {
+                rejections.add(rejection);
+            }
+        }
+
+        ImportResult toResult(String target, DataFormat format, long startedNanos) {
+            long elapsedNanos = Math.max(System.nanoTime() - startedNanos, 1);
+            return ImportResult.builder()
+                    .target(target)
+                    .format(format.name())
+                    .rowsRead(read)
+                    .rowsImported(imported)
+                    .rowsRejected(rejected)
+                    .elapsedMs(elapsedNanos / 1_000_000)
+                    .rowsPerSecond(imported * 1_000_000_000.0 / elapsedNanos)
+                    .rejections(rejections)
+                    .build();
+        }
+    }
+}
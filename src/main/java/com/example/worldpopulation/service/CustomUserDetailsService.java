@@ -1,32 +1,77 @@
 package com.example.worldpopulation.service;
 
+import com.example.worldpopulation.dto.CacheStats;
 import com.example.worldpopulation.mapper.UserMapper;
 import com.example.worldpopulation.model.User;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.Locale;
 
 
+/**
+ * 사용자 조회 (TTL 캐시)
+ * 같은 사용자를 동시에 조회하면 DB 조회는 한 번만 일어나며, 사용자 변경 시 {@link #evict(String)} 로 비웁니다.
+ * 인증 후 credentials 삭제(eraseCredentials)가 캐시된 비밀번호를 지우지 않도록 항상 복사본을 반환합니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserMapper userMapper;
+    private final Cache<String, UserDetails> cache;
+
+    public CustomUserDetailsService(UserMapper userMapper,
+                                    @Value("${app.user-cache.ttl:5m}") Duration ttl,
+                                    @Value("${app.user-cache.max-size:10000}") long maxSize) {
+        this.userMapper = userMapper;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userMapper.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        // 없는 사용자는 캐시하지 않음 (null 반환 시 저장되지 않음)
+        UserDetails cached = cache.get(key(username), key -> load(username));
+        if (cached == null) {
+            throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username);
+        }
+        return org.springframework.security.core.userdetails.User.withUserDetails(cached).build();
+    }
 
-        log.info("user: {}", user);
+    /**
+     * 사용자 등록/수정/삭제 후 캐시 제거
+     */
+    public void evict(String username) {
+        if (username != null) {
+            cache.invalidate(key(username));
+        }
+    }
+
+    public CacheStats stats() {
+        return CacheStats.of("userDetails", cache);
+    }
+
+    private UserDetails load(String username) {
+        User user = userMapper.findByUsername(username).orElse(null);
+        if (user == null) {
+            return null;
+        }
+
+        log.debug("사용자 조회 - username: {}, role: {}", user.getUsername(), user.getRole());
 
         return org.springframework.security.core.userdetails.User.builder()
                 .username(user.getUsername())
@@ -36,4 +81,9 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .disabled(!user.getEnabled())
                 .build();
     }
-}
\ No newline at end of file
+
+    // MySQL 기본 collation 은 대소문자를 구분하지 않으므로 키도 소문자로 통일
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.worldpopulation.service;
+
+import com.example.worldpopulation.dto.DashboardSummary;
+import com.github.pagehelper.PageInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 구성 요소 조회
+ * 네 항목 모두 메모리 보관소에서 바로 읽으므로 차례로 조회합니다.
+ * 실패한 항목(예: 최초 적재 중 DB 오류)은 빈 값으로 채우고 failures 에 이름을 남깁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+
+    private static final int TOP_COUNTRIES = 10;
+
+    private final PopulationService populationService;
+
+    /**
+     * 대시보드 요약 조회
+     * @param pageNum 국가 목록 페이지 번호
+     * @param pageSize 국가 목록 페이지 크기
+     */
+    public DashboardSummary getSummary(int pageNum, int pageSize) {
+        List<String> failures = new ArrayList<>();
+        return DashboardSummary.builder()
+                .countries(section("countries", () -> populationService.getAllCountries(pageNum, pageSize),
+                        failures, new PageInfo<>(List.of())))
+                .continentStats(section("continentStats", populationService::getContinentStatistics,
+                        failures, List.of()))
+                .totalPopulation(section("totalPopulation", populationService::getTotalWorldPopulation,
+                        failures, null))
+                .topCountries(section("topCountries", () -> populationService.getTopCountries(TOP_COUNTRIES),
+                        failures, List.of()))
+                .failures(failures)
+                .build();
+    }
+
+    private <T> T section(String name, Supplier<T> query, List<String> failures, T fallback) {
+        try {
+            return query.get();
+        } catch (RuntimeException e) {
+            log.warn("대시보드 조회 실패 - {}: {}", name, e.getMessage());
+            failures.add(name);
+            return fallback;
+        }
+    }
+}
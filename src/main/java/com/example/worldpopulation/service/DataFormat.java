@@ -0,0 +1,51 @@
+package com.example.worldpopulation.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 대량 적재/내보내기 파일 형식
+ */
+public enum DataFormat {
+    CSV("csv", "text/csv"),
+    NDJSON("ndjson", "application/x-ndjson");
+
+    private final String extension;
+    private final String contentType;
+
+    DataFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    /**
+     * 요청 파라미터의 형식명으로 판단 (csv, ndjson, jsonl)
+     * @throws ResponseStatusException 알 수 없는 형식이면 400
+     */
+    public static DataFormat of(String value) {
+        if ("csv".equalsIgnoreCase(value)) {
+            return CSV;
+        }
+        if ("ndjson".equalsIgnoreCase(value) || "jsonl".equalsIgnoreCase(value)) {
+            return NDJSON;
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 형식입니다: " + value);
+    }
+
+    /**
+     * 파일명 확장자로 판단 (.gz 는 무시, .ndjson / .jsonl 외에는 CSV)
+     */
+    public static DataFormat ofFileName(String fileName) {
+        String name = fileName.replaceFirst("(?i)\\.gz$", "");
+        String extension = name.substring(name.lastIndexOf('.') + 1);
+        return "ndjson".equalsIgnoreCase(extension) || "jsonl".equalsIgnoreCase(extension) ? NDJSON : CSV;
+    }
+}
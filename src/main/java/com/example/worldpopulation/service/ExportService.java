@@ -0,0 +1,173 @@
+package com.example.worldpopulation.service;
+
+import com.example.worldpopulation.mapper.CountryPopulationMapper;
+import com.example.worldpopulation.mapper.PopulationHistoryMapper;
+import com.example.worldpopulation.model.CountryPopulation;
+import com.example.worldpopulation.model.PopulationHistory;
+import com.example.worldpopulation.util.CsvUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 전체 테이블 내보내기
+ * MyBatis Cursor 로 한 행씩 읽어 곧바로 출력 스트림에 쓰므로 행 수와 무관하게 메모리 사용량이 일정합니다.
+ * CSV 컬럼명은 대량 적재 형식과 같아 그대로 다시 적재할 수 있습니다.
+ */
+@Slf4j
+@Service
+public class ExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final List<String> COUNTRY_COLUMNS = List.of(
+            "country_code", "country_name", "continent", "population", "area_sq_km",
+            "population_density", "gdp_per_capita", "life_expectancy", "year");
+
+    private static final List<String> HISTORY_COLUMNS = List.of(
+            "country_code", "year", "population", "growth_rate");
+
+    private final CountryPopulationMapper countryMapper;
+    private final PopulationHistoryMapper historyMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExportService(CountryPopulationMapper countryMapper,
+                         PopulationHistoryMapper historyMapper,
+                         ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager) {
+        this.countryMapper = countryMapper;
+        this.historyMapper = historyMapper;
+        this.objectMapper = objectMapper;
+        // 커서는 세션이 열려 있는 동안만 유효하므로 트랜잭션으로 세션을 붙잡아 둠
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 국가 인구 데이터 내보내기 (국가 코드 순)
+     * @return 내보낸 행 수
+     */
+    public long exportCountries(DataFormat format, boolean gzip, OutputStream out) throws IOException {
+        return export("country_population", format, gzip, out, COUNTRY_COLUMNS,
+                countryMapper::streamAll,
+                country -> new Object[]{
+                        country.getCountryCode(), country.getCountryName(), country.getContinent(),
+                        country.getPopulation(), country.getAreaSqKm(), country.getPopulationDensity(),
+                        country.getGdpPerCapita(), country.getLifeExpectancy(), country.getYear()});
+    }
+
+    /**
+     * 인구 이력 내보내기 (국가 코드, 년도 순)
+     * @param countryCode 국가 코드 (null 이면 전체)
+     * @return 내보낸 행 수
+     */
+    public long exportHistory(DataFormat format, String countryCode, boolean gzip, OutputStream out) throws IOException {
+        return export("population_history", format, gzip, out, HISTORY_COLUMNS,
+                () -> historyMapper.streamAll(countryCode),
+                history -> new Object[]{
+                        history.getCountryCode(), history.getYear(), history.getPopulation(), history.getGrowthRate()});
+    }
+
+    private <T> long export(String target, DataFormat format, boolean gzip, OutputStream out,
+                            List<String> columns, CursorSource<T> source,
+                            Function<T, Object[]> csvRow) throws IOException {
+        long started = System.nanoTime();
+        OutputStream sink = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(sink, StandardCharsets.UTF_8), BUFFER_SIZE);
+        RowWriter<T> rowWriter = format == DataFormat.NDJSON ? ndjsonWriter(writer) : csvWriter(writer, columns, csvRow);
+
+        Long rows;
+        try {
+            rows = readOnlyTransaction.execute(status -> {
+                long count = 0;
+                try (Cursor<T> cursor = source.open()) {
+                    for (T row : cursor) {
+                        rowWriter.write(row);
+                        count++;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return count;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        rowWriter.flush();
+        writer.flush();
+        if (sink instanceof GZIPOutputStream gzipStream) {
+            gzipStream.finish();
+        }
+        log.info("내보내기 완료 - target: {}, format: {}, rows: {}, {} ms",
+                target, format, rows, (System.nanoTime() - started) / 1_000_000);
+        return rows != null ? rows : 0;
+    }
+
+    private <T> RowWriter<T> csvWriter(Writer writer, List<String> columns, Function<T, Object[]> csvRow) throws IOException {
+        writer.write(String.join(",", columns));
+        writer.write('\n');
+        return row -> {
+            Object[] values = csvRow.apply(row);
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(CsvUtils.escape(values[i]));
+            }
+            writer.write('\n');
+        };
+    }
+
+    private <T> RowWriter<T> ndjsonWriter(Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        // 루트 값 사이 구분자 대신 줄바꿈을 직접 씀
+        generator.setRootValueSeparator(null);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // 행마다 flush 하면 버퍼가 무의미해지므로 끝에서 한 번만 flush
+        ObjectWriter jsonWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return new RowWriter<>() {
+            @Override
+            public void write(T row) throws IOException {
+                jsonWriter.writeValue(generator, row);
+                generator.writeRaw('\n');
+            }
+
+            @Override
+            public void flush() throws IOException {
+                generator.flush();
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface CursorSource<T> {
+        Cursor<T> open();
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(T row) throws IOException;
+
+        default void flush() throws IOException {
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.worldpopulation.service;
+
+import com.example.worldpopulation.dto.NewsArticle;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * NewsAPI.org 원천
+ * JDK HttpClient 는 연결을 재사용하며, 연결/응답 시간 제한을 넘기면 예외로 끝납니다.
+ */
+@Slf4j
+@Component
+public class NewsApiUpstream implements NewsUpstream {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final String apiKey;
+    private final Duration requestTimeout;
+
+    public NewsApiUpstream(ObjectMapper objectMapper,
+                           @Value("${news.api.base-url:https://newsapi.org}") String baseUrl,
+                           @Value("${news.api.key:}") String apiKey,
+                           @Value("${news.api.connect-timeout:2s}") Duration connectTimeout,
+                           @Value("${news.api.request-timeout:5s}") Duration requestTimeout) {
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.apiKey = apiKey;
+        this.requestTimeout = requestTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return apiKey != null && !apiKey.isEmpty();
+    }
+
+    @Override
+    public CompletableFuture<List<NewsArticle>> fetch(String countryName) {
+        // API 키는 쿼리 문자열 대신 헤더로 전달 (접근 로그에 남지 않도록)
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/v2/everything"
+                        + "?q=" + URLEncoder.encode(countryName, StandardCharsets.UTF_8)
+                        + "&sortBy=publishedAt&language=ko&pageSize=6"))
+                .timeout(requestTimeout)
+                .header("X-Api-Key", apiKey)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> {
+                    if (response.statusCode() != 200) {
+                        throw new IllegalStateException("뉴스 API 응답 오류 - status: " + response.statusCode());
+                    }
+                    return parse(response.body());
+                });
+    }
+
+    private List<NewsArticle> parse(byte[] body) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!"ok".equals(root.path("status").asText())) {
+            throw new IllegalStateException("뉴스 API 실패 응답 - " + root.path("message").asText(""));
+        }
+
+        List<NewsArticle> articles = new ArrayList<>();
+        for (JsonNode article : root.path("articles")) {
+            articles.add(NewsArticle.builder()
+                    .title(text(article, "title"))
+                    .description(text(article, "description"))
+                    .url(text(article, "url"))
+                    .image(text(article, "urlToImage"))
+                    .source(article.path("source").hasNonNull("name") ? article.path("source").get("name").asText() : "Unknown")
+                    .date(formatDate(text(article, "publishedAt")))
+                    .build());
+        }
+        return articles;
+    }
+
+    private static String text(JsonNode node, String field) {
+        return node.hasNonNull(field) ? node.get(field).asText() : null;
+    }
+
+    /**
+     * 날짜 포맷팅 (상대 시간)
+     */
+    private static String formatDate(String isoDate) {
+        try {
+            LocalDateTime publishedDate = LocalDateTime.parse(isoDate, DateTimeFormatter.ISO_DATE_TIME);
+            long hours = Duration.between(publishedDate, LocalDateTime.now()).toHours();
+
+            if (hours < 1) {
+                return "방금 전";
+            } else if (hours < 24) {
+                return hours + "시간 전";
+            } else if (hours < 48) {
+                return "1일 전";
+            } else {
+                return (hours / 24) + "일 전";
+            }
+        } catch (Exception e) {
+            return "최근";
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.worldpopulation.service;
+
+import com.example.worldpopulation.dto.CacheStats;
+import com.example.worldpopulation.dto.NewsArticle;
+import com.example.worldpopulation.util.Bulkhead;
+import com.example.worldpopulation.util.CircuitBreaker;
+import com.example.worldpopulation.util.SpaceSaving;
+import com.example.worldpopulation.util.TextNormalizer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 국가별 뉴스 조회 (TTL 캐시 + 동시 요청 병합)
+ * 신선한 캐시가 없으면 원천을 호출하되, 같은 국가에 대한 동시 요청은 진행 중인 호출 하나를 공유합니다.
+ * 원천 호출이 실패하면 마지막으로 성공한 결과를 (오래되었더라도) 반환하고, 그마저 없을 때만 샘플 데이터를 반환합니다.
+ * 조회된 국가는 빈도 상위 항목 추정기에 기록되어 {@link NewsPrefetcher} 가 미리 갱신합니다.
+ * 원천 호출은 동시 호출 제한과 서킷 브레이커를 거치며, 거절되면 원천을 기다리지 않고 바로 대체 결과를 반환합니다.
+ */
+@Slf4j
+@Service
+public class NewsGateway {
+
+    private final NewsUpstream upstream;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Duration ttl;
+
+    // 마지막 성공 결과 (TTL 이 지나도 stale-max 까지는 오류 시 대체용으로 보관)
+    private final Cache<String, Entry> lastGood;
+    private final Map<String, CompletableFuture<List<NewsArticle>>> inFlight = new ConcurrentHashMap<>();
+    private final SpaceSaving popularity;
+
+    public NewsGateway(NewsUpstream upstream,
+                       CircuitBreaker newsCircuitBreaker,
+                       Bulkhead newsBulkhead,
+                       @Value("${news.cache.ttl:10m}") Duration ttl,
+                       @Value("${news.cache.stale-max:1d}") Duration staleMax,
+                       @Value("${news.cache.max-size:1000}") long maxSize,
+                       @Value("${news.prefetch.tracked:200}") int tracked) {
+        this.upstream = upstream;
+        this.circuitBreaker = newsCircuitBreaker;
+        this.bulkhead = newsBulkhead;
+        this.ttl = ttl;
+        this.popularity = new SpaceSaving(tracked);
+        this.lastGood = Caffeine.newBuilder()
+                .expireAfterWrite(staleMax)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 국가별 뉴스 조회
+     * @param countryName 국가명
+     */
+    public CompletableFuture<List<NewsArticle>> getNews(String countryName) {
+        if (!upstream.isEnabled()) {
+            return CompletableFuture.completedFuture(sampleNews(countryName));
+        }
+
+        String key = TextNormalizer.normalize(countryName);
+        popularity.offer(key, countryName);
+        Entry cached = lastGood.getIfPresent(key);
+        if (cached != null && cached.isFresh(ttl, Duration.ZERO)) {
+            return CompletableFuture.completedFuture(cached.articles());
+        }
+
+        return fetch(key, countryName).handle((articles, error) -> {
+            if (error == null) {
+                return articles;
+            }
+            Entry stale = lastGood.getIfPresent(key);
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof RejectedExecutionException) {
+                // 서킷 열림/동시 호출 초과는 매 요청마다 경고하지 않음 (메트릭으로 확인)
+                log.debug("뉴스 원천 호출 거절 - country: {}: {}", countryName, cause.getMessage());
+            } else {
+                log.warn("뉴스 원천 호출 실패 - country: {}, {}: {}", countryName,
+                        stale != null ? "이전 결과 반환" : "샘플 반환", cause.getMessage());
+            }
+            return stale != null ? stale.articles() : sampleNews(countryName);
+        });
+    }
+
+    /**
+     * 조회 빈도 상위 국가 (추정치)
+     */
+    public List<SpaceSaving.Item> popular(int n) {
+        return popularity.top(n);
+    }
+
+    /**
+     * 오래된 조회 빈도의 비중을 낮춤
+     */
+    public void decayPopularity() {
+        popularity.decay();
+    }
+
+    /**
+     * 캐시가 없거나 주어진 시간 안에 만료되는지 여부
+     */
+    public boolean needsRefresh(String countryName, Duration within) {
+        Entry cached = lastGood.getIfPresent(TextNormalizer.normalize(countryName));
+        return cached == null || !cached.isFresh(ttl, within);
+    }
+
+    /**
+     * 신선도와 관계없이 원천에서 다시 조회하여 캐시 갱신 (조회 빈도에는 기록하지 않음)
+     */
+    public CompletableFuture<List<NewsArticle>> refresh(String countryName) {
+        return fetch(TextNormalizer.normalize(countryName), countryName);
+    }
+
+    public boolean isUpstreamEnabled() {
+        return upstream.isEnabled();
+    }
+
+    public CacheStats stats() {
+        return CacheStats.of("news", lastGood);
+    }
+
+    private CompletableFuture<List<NewsArticle>> fetch(String key, String countryName) {
+        CompletableFuture<List<NewsArticle>> promise = new CompletableFuture<>();
+        CompletableFuture<List<NewsArticle>> existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            return existing;
+        }
+
+        CompletableFuture<List<NewsArticle>> call = guardedFetch(countryName);
+        call.whenComplete((articles, error) -> {
+            if (error == null) {
+                lastGood.put(key, new Entry(List.copyOf(articles), Instant.now()));
+            }
+            // 완료 전에 제거해야 이후 요청이 끝난 호출을 다시 공유하지 않음
+            inFlight.remove(key, promise);
+            if (error == null) {
+                promise.complete(articles);
+            } else {
+                promise.completeExceptionally(error);
+            }
+        });
+        return promise;
+    }
+
+    /**
+     * 동시 호출 제한 → 서킷 브레이커 순으로 허가를 받아 원천 호출
+     */
+    private CompletableFuture<List<NewsArticle>> guardedFetch(String countryName) {
+        if (!bulkhead.tryAcquire()) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("뉴스 원천 동시 호출 한도 초과"));
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            return CompletableFuture.failedFuture(new RejectedExecutionException("뉴스 원천 서킷 열림"));
+        }
+
+        CompletableFuture<List<NewsArticle>> call;
+        try {
+            call = upstream.fetch(countryName);
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+        return call.whenComplete((articles, error) -> {
+            bulkhead.release();
+            if (error == null) {
+                circuitBreaker.onSuccess();
+            } else {
+                circuitBreaker.onFailure();
+            }
+        });
+    }
+
+    /**
+     * 샘플 뉴스 데이터 (API 키가 없거나, 오류 시 이전 결과도 없는 경우)
+     */
+    private static List<NewsArticle> sampleNews(String countryName) {
+        return List.of(
+                sample(countryName + " 경제 성장률 전망 발표",
+                        "국제통화기금(IMF)이 " + countryName + "의 올해 경제 성장률을 상향 조정했습니다. 전문가들은 안정적인 성장세를 예측하고 있습니다.",
+                        "경제일보", "2시간 전", "667eea", "Economic+News"),
+                sample(countryName + " 인구 통계 최신 업데이트",
+                        "통계청이 발표한 최신 인구 데이터에 따르면, " + countryName + "의 인구 구조에 주목할 만한 변화가 관측되고 있습니다.",
+                        "데이터뉴스", "5시간 전", "48bb78", "Population+Stats"),
+                sample(countryName + " 관광 산업 회복세",
+                        "팬데믹 이후 " + countryName + "의 관광 산업이 빠른 회복세를 보이고 있으며, 올해 관광객 수가 크게 증가할 것으로 전망됩니다.",
+                        "여행매거진", "1일 전", "ed8936", "Tourism+News"),
+                sample(countryName + " 기술 혁신 정책 발표",
+                        countryName + " 정부가 차세대 기술 육성을 위한 대규모 투자 계획을 발표했습니다. AI와 바이오 분야에 집중 투자할 예정입니다.",
+                        "테크타임즈", "2일 전", "9f7aea", "Tech+News"),
+                sample(countryName + " 환경 보호 캠페인 시작",
+                        "탄소 중립 목표 달성을 위한 " + countryName + "의 새로운 환경 정책이 시행됩니다. 재생 에너지 확대가 핵심입니다.",
+                        "그린뉴스", "3일 전", "38b2ac", "Environment+News"),
+                sample(countryName + " 국제 협력 강화",
+                        countryName + "이(가) 주변국들과의 경제 협력을 강화하기 위한 새로운 협정을 체결했습니다. 무역 활성화가 기대됩니다.",
+                        "국제뉴스", "4일 전", "f56565", "International+News"));
+    }
+
+    private static NewsArticle sample(String title, String description, String source, String date,
+                                      String color, String label) {
+        return NewsArticle.builder()
+                .title(title)
+                .description(description)
+                .source(source)
+                .date(date)
+                .url("#")
+                .image("https://via.placeholder.com/400x200/" + color + "/ffffff?text=" + label)
+                .build();
+    }
+
+    private record Entry(List<NewsArticle> articles, Instant fetchedAt) {
+
+        /**
+         * 지금부터 margin 이후에도 TTL 안에 있는지 여부
+         */
+        boolean isFresh(Duration ttl, Duration margin) {
+            return fetchedAt.plus(ttl).isAfter(Instant.now().plus(margin));
+        }
+    }
+}
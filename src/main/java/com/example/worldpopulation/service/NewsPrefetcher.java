@@ -0,0 +1,68 @@
+package com.example.worldpopulation.service;
+
+import com.example.worldpopulation.util.SpaceSaving;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 인기 국가 뉴스 미리 갱신
+ * 조회 빈도 상위 국가 중 다음 주기 전에 캐시가 만료될 국가만, 주기당 원천 호출 예산 안에서 갱신합니다.
+ * 인기 국가는 항상 캐시에서 응답되어 조회자가 원천 호출을 기다리지 않습니다.
+ */
+@Slf4j
+@Component
+public class NewsPrefetcher {
+
+    private final NewsGateway newsGateway;
+    private final boolean enabled;
+    private final Duration interval;
+    private final int topN;
+    private final int budget;
+
+    public NewsPrefetcher(NewsGateway newsGateway,
+                          @Value("${news.prefetch.enabled:true}") boolean enabled,
+                          @Value("${news.prefetch.interval:5m}") Duration interval,
+                          @Value("${news.prefetch.top-n:20}") int topN,
+                          @Value("${news.prefetch.budget:10}") int budget) {
+        this.newsGateway = newsGateway;
+        this.enabled = enabled;
+        this.interval = interval;
+        this.topN = topN;
+        this.budget = budget;
+    }
+
+    @Scheduled(fixedDelayString = "${news.prefetch.interval:5m}", initialDelayString = "${news.prefetch.interval:5m}")
+    public void prefetch() {
+        if (!enabled || !newsGateway.isUpstreamEnabled()) {
+            return;
+        }
+
+        List<CompletableFuture<?>> calls = new ArrayList<>();
+        for (SpaceSaving.Item item : newsGateway.popular(topN)) {
+            if (calls.size() >= budget) {
+                break;
+            }
+            if (newsGateway.needsRefresh(item.label(), interval)) {
+                calls.add(newsGateway.refresh(item.label())
+                        .exceptionally(e -> {
+                            log.debug("뉴스 미리 갱신 실패 - country: {}: {}", item.label(), e.getMessage());
+                            return null;
+                        }));
+            }
+        }
+        // 다음 주기가 이번 호출과 겹치지 않도록 완료까지 대기 (각 호출은 요청 시간 제한을 가짐)
+        CompletableFuture.allOf(calls.toArray(new CompletableFuture[0])).join();
+        newsGateway.decayPopularity();
+
+        if (!calls.isEmpty()) {
+            log.debug("인기 국가 뉴스 미리 갱신 - {} 건", calls.size());
+        }
+    }
+}
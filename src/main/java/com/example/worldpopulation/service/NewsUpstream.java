@@ -0,0 +1,25 @@
+package com.example.worldpopulation.service;
+
+import com.example.worldpopulation.dto.NewsArticle;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 뉴스 원천 (외부 뉴스 API)
+ * {@link NewsGateway} 가 캐시와 동시 요청 병합을 담당하므로 구현체는 매 호출마다 원천을 조회합니다.
+ */
+public interface NewsUpstream {
+
+    /**
+     * 원천 호출이 가능한 상태인지 여부 (예: API 키 설정)
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * 국가 관련 최신 뉴스 조회 (호출 스레드를 막지 않음)
+     */
+    CompletableFuture<List<NewsArticle>> fetch(String countryName);
+}
@@ -0,0 +1,111 @@
+package com.example.worldpopulation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 전용 작업 풀
+ * 해시 계산을 요청 스레드가 아닌 크기가 고정된 풀에서 실행하여, 로그인이 몰려도
+ * 일반 API 처리에 쓸 CPU 를 남겨 둡니다. 대기열이 가득 차면 기다리지 않고 503 으로 거절합니다.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Counter rejected;
+
+    // 존재하지 않는 사용자도 같은 비용을 치르도록 비교할 더미 해시
+    private final String dummyHash;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Value("${app.login.bcrypt-threads:0}") int threads,
+                                  @Value("${app.login.queue-capacity:64}") int queueCapacity,
+                                  @Value("${app.login.timeout:5s}") Duration timeout,
+                                  MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+        this.rejected = Counter.builder("auth.login.rejected")
+                .description("BCrypt 작업 대기열 초과로 거절된 요청 (시간 초과, 중단은 제외)")
+                .register(meterRegistry);
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "bcrypt-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.dummyHash = passwordEncoder.encode("dummy-password-for-timing");
+    }
+
+    /**
+     * 비밀번호 확인
+     * @param encoded 저장된 해시 (사용자가 없으면 null, 이때도 더미 해시와 비교하여 응답 시간을 맞춤)
+     */
+    public boolean matches(String rawPassword, String encoded) {
+        boolean matched = run(() -> passwordEncoder.matches(rawPassword, encoded != null ? encoded : dummyHash));
+        return encoded != null && matched;
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 설정된 해시 강도보다 약하게 저장된 해시인지 여부
+     */
+    public boolean needsRehash(String encoded) {
+        return passwordEncoder.upgradeEncoding(encoded);
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("BCrypt 작업 대기열 초과 - active: {}, queued: {}", executor.getActiveCount(), executor.getQueue().size());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요");
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "로그인 처리 시간이 초과되었습니다");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "로그인 처리가 중단되었습니다");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 해시 처리 실패", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,118 +1,228 @@
 package com.example.worldpopulation.service;
 
+import com.example.worldpopulation.config.annotation.PageableQuery;
+import com.example.worldpopulation.config.annotation.PagingMode;
+import com.example.worldpopulation.dto.ContinentStatistics;
+import com.example.worldpopulation.dto.CountrySuggestion;
+import com.example.worldpopulation.dto.KeysetPage;
+import com.example.worldpopulation.dto.KeysetPageRequest;
 import com.example.worldpopulation.mapper.CountryPopulationMapper;
 import com.example.worldpopulation.mapper.PopulationHistoryMapper;
 import com.example.worldpopulation.model.CountryPopulation;
-import com.github.pagehelper.PageHelper;
+import com.example.worldpopulation.model.PopulationHistory;
+import com.example.worldpopulation.store.ContinentAggregateStore;
+import com.example.worldpopulation.store.CountrySearchIndex;
+import com.example.worldpopulation.store.CountrySnapshot;
+import com.example.worldpopulation.store.CountrySnapshotStore;
+import com.example.worldpopulation.store.CountrySuggestTrie;
+import com.example.worldpopulation.store.KeysetCursor;
+import com.example.worldpopulation.store.PopulationHistoryStore;
+import com.example.worldpopulation.store.PopulationSeries;
 import com.github.pagehelper.PageInfo;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class PopulationService {
 
+    private static final int MAX_HISTORY_CODES = 50;
+
     private final CountryPopulationMapper countryMapper;
     private final PopulationHistoryMapper historyMapper;
+    private final CountrySnapshotStore snapshotStore;
+    private final ContinentAggregateStore continentAggregates;
+    private final CountrySearchIndex searchIndex;
+    private final CountrySuggestTrie suggestTrie;
+    private final PopulationHistoryStore historyStore;
 
     public PageInfo<CountryPopulation> getAllCountries(int pageNum, int pageSize) {
-        PageHelper.startPage(pageNum, pageSize);
-        List<CountryPopulation> countries = countryMapper.findAll();
-        return new PageInfo<>(countries);
+        return new PageInfo<>(snapshotStore.current().page(pageNum, pageSize));
+    }
+
+    /**
+     * 커서 기반 국가 목록 조회 (인구 내림차순, 국가 코드 오름차순)
+     * 페이지 깊이와 무관하게 정렬 인덱스 이진 탐색 한 번으로 시작 위치를 찾습니다.
+     * @param request 커서, 페이지 크기, 전체 건수 포함 여부
+     * @return 현재 페이지와 다음 커서
+     */
+    @PageableQuery(mode = PagingMode.KEYSET)
+    public KeysetPage<CountryPopulation> getCountriesAfter(KeysetPageRequest request) {
+        CountrySnapshot snapshot = snapshotStore.current();
+        int pageSize = request.getPageSize();
+
+        int fromRank = 0;
+        if (StringUtils.hasText(request.getCursor())) {
+            try {
+                fromRank = snapshot.rankAfter(KeysetCursor.decode(request.getCursor()));
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다");
+            }
+        }
+
+        List<CountryPopulation> countries = snapshot.ranked(fromRank, pageSize);
+        int lastRank = fromRank + countries.size() - 1;
+        boolean hasNextPage = !countries.isEmpty() && lastRank < snapshot.size() - 1;
+
+        return KeysetPage.<CountryPopulation>builder()
+                .list(countries)
+                .pageSize(pageSize)
+                .hasNextPage(hasNextPage)
+                .nextCursor(hasNextPage ? snapshot.cursorOf(snapshot.rowAtRank(lastRank)).encode() : null)
+                .total(request.isWithTotal() ? (long) snapshot.size() : null)
+                .build();
     }
 
     public CountryPopulation getCountryByCode(String countryCode) {
-        return countryMapper.findByCountryCode(countryCode)
+        return snapshotStore.current().findByCode(countryCode)
                 .orElseThrow(() -> new RuntimeException("국가를 찾을 수 없습니다: " + countryCode));
     }
 
     public List<CountryPopulation> getCountriesByContinent(String continent) {
-        return countryMapper.findByContinent(continent);
+        return snapshotStore.current().findByContinent(continent);
     }
 
     public List<CountryPopulation> searchCountries(String keyword) {
-        return countryMapper.searchByName(keyword);
+        return searchIndex.search(keyword);
     }
 
-    public List<Map<String, Object>> getContinentStatistics() {
-        return countryMapper.getContinentStatistics();
+    /**
+     * 국가 자동완성
+     * @param prefix 입력 중인 문자열
+     * @param limit 최대 건수
+     * @return 국가 코드와 국가명만 담은 목록 (인구 내림차순)
+     */
+    public List<CountrySuggestion> suggestCountries(String prefix, int limit) {
+        return suggestTrie.suggest(prefix, limit);
+    }
+
+    public List<ContinentStatistics> getContinentStatistics() {
+        return continentAggregates.statistics();
     }
 
     public Long getTotalWorldPopulation() {
-        return countryMapper.getTotalWorldPopulation();
+        return continentAggregates.totalPopulation();
     }
 
     public List<CountryPopulation> getTopCountries(int limit) {
-        return countryMapper.getTopCountriesByPopulation(limit);
+        return snapshotStore.current().top(limit);
     }
 
     public CountryPopulation createCountry(CountryPopulation country) {
         countryMapper.insert(country);
+        snapshotStore.refresh(country.getCountryCode());
         return country;
     }
 
     public CountryPopulation updateCountry(CountryPopulation country) {
         countryMapper.update(country);
+        snapshotStore.refresh(country.getCountryCode());
         return country;
     }
 
     public void deleteCountry(String countryCode) {
         countryMapper.delete(countryCode);
+        snapshotStore.refresh(countryCode);
     }
     
     /**
      * 국가별 인구 변화 이력 조회
      * @param countryCode 국가 코드
-     * @return 인구 변화 데이터 목록
+     * @return 인구 변화 데이터 (년도 오름차순)
      */
-    public List<Map<String, Object>> getPopulationHistory(String countryCode) {
-        List<Map<String, Object>> history = historyMapper.findByCountryCode(countryCode);
+    public PopulationSeries getPopulationHistory(String countryCode) {
+        PopulationSeries history = historyStore.find(countryCode);
         
         // 데이터가 없으면 샘플 데이터 반환
-        if (history == null || history.isEmpty()) {
+        if (history.isEmpty()) {
             return getSamplePopulationHistory(countryCode);
         }
         
         return history;
     }
+
+    /**
+     * 여러 국가의 인구 변화 이력을 한 번에 조회
+     * @param countryCodes 국가 코드 목록 (중복 제거, 요청 순서 유지)
+     * @param from 시작 년도 (포함, null 이면 제한 없음)
+     * @param to 종료 년도 (포함, null 이면 제한 없음)
+     * @param maxPoints 국가별 최대 점 개수 (null 이면 다운샘플링 없음)
+     * @return 국가 코드별 인구 변화 데이터 (이력이 없는 국가 코드는 제외, 샘플 데이터를 만들지 않음)
+     */
+    public Map<String, PopulationSeries> getPopulationHistories(List<String> countryCodes,
+                                                                Integer from, Integer to, Integer maxPoints) {
+        if (countryCodes.size() > MAX_HISTORY_CODES) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "한 번에 조회할 수 있는 국가는 최대 " + MAX_HISTORY_CODES + "개입니다");
+        }
+        Map<String, PopulationSeries> result = new LinkedHashMap<>();
+        for (String code : countryCodes) {
+            String countryCode = code.trim().toUpperCase(Locale.ROOT);
+            if (countryCode.isEmpty() || result.containsKey(countryCode)) {
+                continue;
+            }
+            PopulationSeries history = historyStore.find(countryCode);
+            if (history.isEmpty()) {
+                continue;
+            }
+            PopulationSeries series = history.between(from, to);
+            result.put(countryCode, maxPoints != null ? series.downsample(maxPoints) : series);
+        }
+        return result;
+    }
+
+    /**
+     * 인구 변화 이력 등록 (같은 년도가 있으면 교체, 보관소와 같은 규칙)
+     * @param history 국가 코드, 년도, 인구, 성장률
+     */
+    public PopulationHistory addPopulationHistory(PopulationHistory history) {
+        String countryCode = history.getCountryCode() != null
+                ? history.getCountryCode().trim().toUpperCase(Locale.ROOT) : "";
+        if (countryCode.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "국가 코드는 필수입니다");
+        }
+        if (history.getYear() == null || history.getPopulation() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "년도와 인구는 필수입니다");
+        }
+        history.setCountryCode(countryCode);
+        historyMapper.upsert(history);
+        historyStore.put(history.getCountryCode(), history.getYear(),
+                history.getPopulation(), history.getGrowthRate());
+        return history;
+    }
     
     /**
      * 샘플 인구 변화 데이터 생성
      */
-    private List<Map<String, Object>> getSamplePopulationHistory(String countryCode) {
-        List<Map<String, Object>> sampleData = new ArrayList<>();
+    private PopulationSeries getSamplePopulationHistory(String countryCode) {
+        PopulationSeries.Builder sampleData = PopulationSeries.builder();
         
         // 국가별로 다른 샘플 데이터 생성
         if ("KOR".equals(countryCode)) {
-            sampleData.add(createHistoryEntry(2018, 51630000L, 0.15));
-            sampleData.add(createHistoryEntry(2019, 51710000L, 0.16));
-            sampleData.add(createHistoryEntry(2020, 51780579L, 0.09));
-            sampleData.add(createHistoryEntry(2021, 51815810L, 0.07));
-            sampleData.add(createHistoryEntry(2022, 51628117L, -0.36));
-            sampleData.add(createHistoryEntry(2023, 51784059L, 0.30));
+            sampleData.add(2018, 51630000L, 0.15);
+            sampleData.add(2019, 51710000L, 0.16);
+            sampleData.add(2020, 51780579L, 0.09);
+            sampleData.add(2021, 51815810L, 0.07);
+            sampleData.add(2022, 51628117L, -0.36);
+            sampleData.add(2023, 51784059L, 0.30);
         } else {
             // 기본 샘플 데이터
             long basePopulation = 50000000L;
             for (int year = 2018; year <= 2023; year++) {
                 double growthRate = (Math.random() * 2) - 0.5; // -0.5% ~ 1.5%
                 basePopulation = (long)(basePopulation * (1 + growthRate / 100));
-                sampleData.add(createHistoryEntry(year, basePopulation, growthRate));
+                sampleData.add(year, basePopulation, growthRate);
             }
         }
         
-        return sampleData;
+        return sampleData.build();
     }
-    
-    private Map<String, Object> createHistoryEntry(int year, long population, double growthRate) {
-        Map<String, Object> entry = new HashMap<>();
-        entry.put("year", year);
-        entry.put("population", population);
-        entry.put("growthRate", growthRate);
-        return entry;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+package com.example.worldpopulation.service;
+
+import com.example.worldpopulation.config.annotation.PageableQuery;
+import com.example.worldpopulation.dto.PageRequest;
+import com.example.worldpopulation.mapper.UserMapper;
+import com.example.worldpopulation.model.User;
+import com.example.worldpopulation.store.UserRevocationRegistry;
+import com.github.pagehelper.PageInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 사용자 관리 (관리자용)
+ * 권한, 활성 여부가 바뀌거나 삭제되면 기존 토큰을 무효화합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserService {
+
+    private final UserMapper userMapper;
+    private final UserRevocationRegistry revocationRegistry;
+    private final CustomUserDetailsService userDetailsService;
+
+    public List<User> getUsers() {
+        List<User> users = userMapper.findAll();
+        users.forEach(user -> user.setPassword(null));
+        return users;
+    }
+
+    /**
+     * 조건별 사용자 페이지 조회 (비밀번호 제외)
+     * 전체 건수는 users 테이블이 바뀌기 전까지 캐시하여 페이지 이동 시 COUNT 쿼리를 생략합니다.
+     * @param role 권한 (null 이면 전체)
+     * @param keyword 아이디/이메일/이름 검색어 (null 이면 전체)
+     * @param pageRequest 페이지 번호, 크기
+     */
+    @PageableQuery(defaultPageSize = 20, cacheCount = true, tables = "users")
+    public PageInfo<User> getUserPage(String role, String keyword, PageRequest pageRequest) {
+        List<User> users = userMapper.findPage(role, keyword);
+        users.forEach(user -> user.setPassword(null));
+        return new PageInfo<>(users);
+    }
+
+    /**
+     * 사용자 정보 수정 (null 인 항목은 유지)
+     * @param id 사용자 ID
+     * @param changes 이메일, 이름, 권한, 활성 여부
+     */
+    public User updateUser(Long id, User changes) {
+        User user = userMapper.findById(id)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + id));
+
+        if (changes.getEmail() != null) {
+            user.setEmail(changes.getEmail());
+        }
+        if (changes.getFullName() != null) {
+            user.setFullName(changes.getFullName());
+        }
+        if (changes.getRole() != null) {
+            user.setRole(changes.getRole());
+        }
+        if (changes.getEnabled() != null) {
+            user.setEnabled(changes.getEnabled());
+        }
+        userMapper.update(user);
+        revocationRegistry.revoke(user.getUsername());
+        userDetailsService.evict(user.getUsername());
+        log.info("사용자 수정 - username: {}, role: {}, enabled: {}", user.getUsername(), user.getRole(), user.getEnabled());
+
+        user.setPassword(null);
+        return user;
+    }
+
+    public void deleteUser(Long id) {
+        User user = userMapper.findById(id)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + id));
+        userMapper.delete(id);
+        revocationRegistry.revoke(user.getUsername());
+        userDetailsService.evict(user.getUsername());
+        log.info("사용자 삭제 - username: {}", user.getUsername());
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.worldpopulation.store;
+
+import com.example.worldpopulation.dto.ContinentStatistics;
+import com.example.worldpopulation.model.CountryPopulation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대륙별 집계 보관소
+ * 국가 수, 인구 합계, GDP/기대수명 합계를 대륙별로 유지하고
+ * 국가 변경 이벤트마다 해당 국가의 기여분만 빼고 더합니다.
+ */
+@Slf4j
+@Component
+public class ContinentAggregateStore extends SnapshotDerivedStore {
+
+    // 소수점 둘째 자리까지 정수로 누적하여 증감 시 오차가 쌓이지 않도록 함
+    private static final double SCALE = 100.0;
+
+    // this 로 보호
+    private final Map<String, Accumulator> accumulators = new HashMap<>();
+    private long worldPopulation;
+
+    private volatile List<ContinentStatistics> statistics = List.of();
+    private volatile long totalPopulation;
+
+    public ContinentAggregateStore(CountrySnapshotStore snapshotStore) {
+        super(snapshotStore);
+    }
+
+    /**
+     * 대륙별 통계 (인구 합계 내림차순)
+     */
+    public List<ContinentStatistics> statistics() {
+        ensureCurrent();
+        return statistics;
+    }
+
+    /**
+     * 전 세계 총 인구
+     */
+    public long totalPopulation() {
+        ensureCurrent();
+        return totalPopulation;
+    }
+
+    @Override
+    protected void rebuild(CountrySnapshot snapshot) {
+        accumulators.clear();
+        worldPopulation = 0;
+        for (int row = 0; row < snapshot.size(); row++) {
+            add(snapshot.continent(row), snapshot.population(row),
+                    snapshot.gdpPerCapita(row), snapshot.lifeExpectancy(row), 1);
+        }
+        publish();
+        log.debug("대륙 집계 재구성 - version: {}, continents: {}", snapshot.version(), accumulators.size());
+    }
+
+    @Override
+    protected void apply(CountrySnapshot snapshot, CountryPopulation before, CountryPopulation after) {
+        if (before != null) {
+            apply(before, -1);
+        }
+        if (after != null) {
+            apply(after, 1);
+        }
+        publish();
+    }
+
+    private void apply(CountryPopulation country, int sign) {
+        add(country.getContinent(),
+                country.getPopulation() != null ? country.getPopulation() : 0L,
+                toDouble(country.getGdpPerCapita()),
+                toDouble(country.getLifeExpectancy()),
+                sign);
+    }
+
+    private void add(String continent, long population, double gdp, double lifeExpectancy, int sign) {
+        Accumulator acc = accumulators.computeIfAbsent(
+                CountrySnapshot.normalizeContinent(continent), key -> new Accumulator(continent));
+        acc.count += sign;
+        acc.population += sign * population;
+        if (!Double.isNaN(gdp)) {
+            acc.gdpScaled += sign * Math.round(gdp * SCALE);
+            acc.gdpCount += sign;
+        }
+        if (!Double.isNaN(lifeExpectancy)) {
+            acc.lifeScaled += sign * Math.round(lifeExpectancy * SCALE);
+            acc.lifeCount += sign;
+        }
+        if (acc.count <= 0) {
+            accumulators.remove(CountrySnapshot.normalizeContinent(continent));
+        }
+        worldPopulation += sign * population;
+    }
+
+    private void publish() {
+        List<ContinentStatistics> rows = new ArrayList<>(accumulators.size());
+        for (Accumulator acc : accumulators.values()) {
+            rows.add(acc.toStatistics());
+        }
+        rows.sort(Comparator.comparingLong(ContinentStatistics::getTotalPopulation).reversed());
+        statistics = List.copyOf(rows);
+        totalPopulation = worldPopulation;
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
+    private static final class Accumulator {
+        private final String continent;
+        private long count;
+        private long population;
+        private long gdpScaled;
+        private long gdpCount;
+        private long lifeScaled;
+        private long lifeCount;
+
+        private Accumulator(String continent) {
+            this.continent = continent;
+        }
+
+        private ContinentStatistics toStatistics() {
+            return ContinentStatistics.builder()
+                    .continent(continent)
+                    .countryCount(count)
+                    .totalPopulation(population)
+                    .avgPopulation((double) population / count)
+                    .avgGdp(gdpCount > 0 ? gdpScaled / SCALE / gdpCount : null)
+                    .avgLifeExpectancy(lifeCount > 0 ? lifeScaled / SCALE / lifeCount : null)
+                    .build();
+        }
+    }
+}
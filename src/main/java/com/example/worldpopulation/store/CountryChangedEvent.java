@@ -0,0 +1,21 @@
+package com.example.worldpopulation.store;
+
+import com.example.worldpopulation.model.CountryPopulation;
+
+/**
+ * 국가 스냅샷이 교체되었음을 알리는 이벤트
+ * 스냅샷 교체 락 안에서 동기적으로 발행되므로 리스너는 버전 순서대로 호출됩니다.
+ *
+ * @param snapshot 새 스냅샷
+ * @param before 변경 전 행 (신규 등록이거나 전체 재적재면 null)
+ * @param after 변경 후 행 (삭제이거나 전체 재적재면 null)
+ */
+public record CountryChangedEvent(CountrySnapshot snapshot, CountryPopulation before, CountryPopulation after) {
+
+    /**
+     * 단건 변경이 아닌 전체 재적재 여부
+     */
+    public boolean isFullReload() {
+        return before == null && after == null;
+    }
+}
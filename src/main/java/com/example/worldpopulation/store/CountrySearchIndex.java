@@ -0,0 +1,219 @@
+package com.example.worldpopulation.store;
+
+import com.example.worldpopulation.model.CountryPopulation;
+import com.example.worldpopulation.util.TextNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 국가명/국가 코드 부분 문자열 검색용 트라이그램 역색인
+ * 국가명(화면에 표시되는 한글명 포함), 국가 코드, 한글 국가명의 초성을 색인하며
+ * 대소문자와 악센트를 구분하지 않습니다.
+ */
+@Slf4j
+@Component
+public class CountrySearchIndex extends SnapshotDerivedStore {
+
+    private static final int GRAM = 3;
+
+    // 일치 유형별 순위 (작을수록 우선)
+    private static final int EXACT = 0;
+    private static final int PREFIX = 1;
+    private static final int WORD_PREFIX = 2;
+    private static final int SUBSTRING = 3;
+    private static final int NO_MATCH = -1;
+
+    private volatile Index index = new Index(Map.of(), Map.of());
+
+    public CountrySearchIndex(CountrySnapshotStore snapshotStore) {
+        super(snapshotStore);
+    }
+
+    /**
+     * 키워드 검색
+     * 일치 품질(완전 일치 > 접두어 > 단어 접두어 > 부분 일치), 인구 내림차순으로 정렬합니다.
+     * @param keyword 검색어 (비어 있으면 전체)
+     */
+    public List<CountryPopulation> search(String keyword) {
+        CountrySnapshot snapshot = ensureCurrent();
+        Index current = index;
+        String query = TextNormalizer.normalize(keyword);
+
+        Collection<Doc> candidates = query.length() >= GRAM ? current.candidates(query) : current.docs.values();
+
+        List<Hit> hits = new ArrayList<>();
+        for (Doc doc : candidates) {
+            int rank = doc.match(query);
+            if (rank != NO_MATCH) {
+                hits.add(new Hit(doc, rank));
+            }
+        }
+        hits.sort(Comparator.comparingInt(Hit::rank)
+                .thenComparing(hit -> hit.doc().population(), Comparator.reverseOrder())
+                .thenComparing(hit -> hit.doc().code()));
+
+        List<CountryPopulation> result = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            int row = snapshot.indexOf(hit.doc().code());
+            if (row >= 0) {
+                result.add(snapshot.toCountry(row));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    protected void rebuild(CountrySnapshot snapshot) {
+        Map<String, Doc> docs = new HashMap<>(snapshot.size() * 2);
+        Map<String, Set<String>> postings = new HashMap<>();
+        for (int row = 0; row < snapshot.size(); row++) {
+            if (snapshot.code(row) == null) {
+                continue;
+            }
+            Doc doc = Doc.of(snapshot.code(row), snapshot.name(row), snapshot.population(row));
+            docs.put(doc.key(), doc);
+            for (String gram : doc.grams()) {
+                postings.computeIfAbsent(gram, key -> new HashSet<>()).add(doc.key());
+            }
+        }
+        index = new Index(docs, postings);
+        log.debug("국가 검색 색인 재구성 - version: {}, docs: {}, grams: {}",
+                snapshot.version(), docs.size(), postings.size());
+    }
+
+    @Override
+    protected void apply(CountrySnapshot snapshot, CountryPopulation before, CountryPopulation after) {
+        // 바뀐 문서의 게시 목록만 복사하여 교체 (copy-on-write)
+        Map<String, Doc> docs = new HashMap<>(index.docs);
+        Map<String, Set<String>> postings = new HashMap<>(index.postings);
+
+        if (before != null && before.getCountryCode() != null) {
+            Doc removed = docs.remove(CountrySnapshot.normalizeCode(before.getCountryCode()));
+            if (removed != null) {
+                for (String gram : removed.grams()) {
+                    Set<String> posting = new HashSet<>(postings.getOrDefault(gram, Set.of()));
+                    posting.remove(removed.key());
+                    if (posting.isEmpty()) {
+                        postings.remove(gram);
+                    } else {
+                        postings.put(gram, posting);
+                    }
+                }
+            }
+        }
+        if (after != null && after.getCountryCode() != null) {
+            Doc added = Doc.of(after.getCountryCode(), after.getCountryName(),
+                    after.getPopulation() != null ? after.getPopulation() : 0L);
+            docs.put(added.key(), added);
+            for (String gram : added.grams()) {
+                Set<String> posting = new HashSet<>(postings.getOrDefault(gram, Set.of()));
+                posting.add(added.key());
+                postings.put(gram, posting);
+            }
+        }
+        index = new Index(docs, postings);
+    }
+
+    private static Set<String> grams(String term) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= term.length(); i++) {
+            grams.add(term.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private record Index(Map<String, Doc> docs, Map<String, Set<String>> postings) {
+
+        /**
+         * 검색어의 모든 트라이그램을 포함하는 문서 (가장 짧은 게시 목록부터 교집합)
+         */
+        Collection<Doc> candidates(String query) {
+            List<Set<String>> lists = new ArrayList<>();
+            for (String gram : grams(query)) {
+                Set<String> posting = postings.get(gram);
+                if (posting == null) {
+                    return List.of();
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            List<Doc> result = new ArrayList<>();
+            for (String key : lists.get(0)) {
+                boolean all = true;
+                for (int i = 1; i < lists.size() && all; i++) {
+                    all = lists.get(i).contains(key);
+                }
+                if (all) {
+                    result.add(docs.get(key));
+                }
+            }
+            return result;
+        }
+    }
+
+    private record Doc(String key, String code, long population, String[] terms) {
+
+        static Doc of(String code, String name, long population) {
+            String normalizedName = TextNormalizer.normalize(name);
+            List<String> terms = new ArrayList<>(3);
+            terms.add(normalizedName);
+            terms.add(TextNormalizer.normalize(code));
+            if (TextNormalizer.containsHangul(normalizedName)) {
+                terms.add(TextNormalizer.choseong(normalizedName));
+            }
+            return new Doc(CountrySnapshot.normalizeCode(code), code, population, terms.toArray(new String[0]));
+        }
+
+        Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            for (String term : terms) {
+                grams.addAll(CountrySearchIndex.grams(term));
+            }
+            return grams;
+        }
+
+        int match(String query) {
+            int best = NO_MATCH;
+            for (String term : terms) {
+                int rank = rank(term, query);
+                if (rank != NO_MATCH && (best == NO_MATCH || rank < best)) {
+                    best = rank;
+                }
+            }
+            return best;
+        }
+
+        private static int rank(String term, String query) {
+            if (term.equals(query)) {
+                return EXACT;
+            }
+            if (term.startsWith(query)) {
+                return PREFIX;
+            }
+            int at = term.indexOf(query);
+            if (at < 0) {
+                return NO_MATCH;
+            }
+            for (; at >= 0; at = term.indexOf(query, at + 1)) {
+                if (!Character.isLetterOrDigit(term.charAt(at - 1))) {
+                    return WORD_PREFIX;
+                }
+            }
+            return SUBSTRING;
+        }
+    }
+
+    private record Hit(Doc doc, int rank) {
+    }
+}
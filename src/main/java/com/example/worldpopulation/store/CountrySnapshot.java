@@ -0,0 +1,362 @@
+package com.example.worldpopulation.store;
+
+import com.example.worldpopulation.model.CountryPopulation;
+import com.github.pagehelper.Page;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * country_population 테이블의 불변 컬럼형(columnar) 스냅샷
+ * 수치 컬럼은 원시 배열로, 대륙은 사전(dictionary) 인덱스로 보관하고
+ * 인구 내림차순 정렬 인덱스를 미리 계산해 둡니다.
+ */
+public final class CountrySnapshot {
+
+    /** year 컬럼이 NULL 인 경우의 표식 */
+    private static final int NO_YEAR = Integer.MIN_VALUE;
+
+    /** DECIMAL 컬럼이 NULL 인 경우의 표식 */
+    private static final long NO_DECIMAL = Long.MIN_VALUE;
+
+    // DECIMAL 컬럼 스케일 (country_population 테이블 정의와 동일)
+    private static final int AREA_SQ_KM_SCALE = 2;            // DECIMAL(15, 2)
+    private static final int POPULATION_DENSITY_SCALE = 2;    // DECIMAL(10, 2)
+    private static final int GDP_PER_CAPITA_SCALE = 2;        // DECIMAL(12, 2)
+    private static final int LIFE_EXPECTANCY_SCALE = 2;       // DECIMAL(5, 2)
+
+    private static final double[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000};
+
+    private final long version;
+    private final int size;
+
+    private final long[] ids;
+    private final String[] codes;
+    private final String[] names;
+    private final int[] continentIds;
+    private final String[] continents;
+    private final long[] population;
+    // DECIMAL 컬럼은 컬럼 스케일 기준 unscaled 값으로 보관 (1234.50 → 123450, NULL 은 NO_DECIMAL)
+    private final long[] areaSqKm;
+    private final long[] populationDensity;
+    private final long[] gdpPerCapita;
+    private final long[] lifeExpectancy;
+    private final int[] years;
+    private final LocalDateTime[] createdAt;
+    private final LocalDateTime[] updatedAt;
+
+    // 인구 내림차순, 동률이면 국가 코드 오름차순
+    private final int[] byPopulation;
+    private final int[][] continentByPopulation;
+
+    // MySQL 기본 collation 과 동일하게 대소문자 구분 없이 조회
+    private final Map<String, Integer> codeIndex;
+    private final Map<String, Integer> continentIndex;
+
+    private final long totalPopulation;
+
+    private CountrySnapshot(long version, List<CountryPopulation> rows) {
+        this.version = version;
+        this.size = rows.size();
+
+        ids = new long[size];
+        codes = new String[size];
+        names = new String[size];
+        continentIds = new int[size];
+        population = new long[size];
+        areaSqKm = new long[size];
+        populationDensity = new long[size];
+        gdpPerCapita = new long[size];
+        lifeExpectancy = new long[size];
+        years = new int[size];
+        createdAt = new LocalDateTime[size];
+        updatedAt = new LocalDateTime[size];
+        codeIndex = new HashMap<>(size * 2);
+        continentIndex = new HashMap<>();
+
+        List<String> continentDict = new ArrayList<>();
+        long total = 0;
+
+        for (int i = 0; i < size; i++) {
+            CountryPopulation row = rows.get(i);
+            ids[i] = row.getId() != null ? row.getId() : 0L;
+            codes[i] = row.getCountryCode();
+            names[i] = row.getCountryName();
+            population[i] = row.getPopulation() != null ? row.getPopulation() : 0L;
+            areaSqKm[i] = unscaled(row.getAreaSqKm(), AREA_SQ_KM_SCALE);
+            populationDensity[i] = unscaled(row.getPopulationDensity(), POPULATION_DENSITY_SCALE);
+            gdpPerCapita[i] = unscaled(row.getGdpPerCapita(), GDP_PER_CAPITA_SCALE);
+            lifeExpectancy[i] = unscaled(row.getLifeExpectancy(), LIFE_EXPECTANCY_SCALE);
+            years[i] = row.getYear() != null ? row.getYear() : NO_YEAR;
+            createdAt[i] = row.getCreatedAt();
+            updatedAt[i] = row.getUpdatedAt();
+            total += population[i];
+
+            String continentKey = normalizeContinent(row.getContinent());
+            Integer continentId = continentIndex.get(continentKey);
+            if (continentId == null) {
+                continentId = continentDict.size();
+                continentDict.add(row.getContinent());
+                continentIndex.put(continentKey, continentId);
+            }
+            continentIds[i] = continentId;
+
+            if (codes[i] != null) {
+                codeIndex.put(normalizeCode(codes[i]), i);
+            }
+        }
+
+        this.continents = continentDict.toArray(new String[0]);
+        this.totalPopulation = total;
+        this.byPopulation = sortByPopulation();
+        this.continentByPopulation = partitionByContinent();
+    }
+
+    public static CountrySnapshot build(long version, List<CountryPopulation> rows) {
+        return new CountrySnapshot(version, rows != null ? rows : Collections.emptyList());
+    }
+
+    private int[] sortByPopulation() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, rankComparator());
+        int[] sorted = new int[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = order[i];
+        }
+        return sorted;
+    }
+
+    private int[][] partitionByContinent() {
+        int[] counts = new int[continents.length];
+        for (int i = 0; i < size; i++) {
+            counts[continentIds[i]]++;
+        }
+        int[][] partitions = new int[continents.length][];
+        for (int c = 0; c < continents.length; c++) {
+            partitions[c] = new int[counts[c]];
+        }
+        // 전체 정렬 순서를 그대로 따라가므로 대륙별 배열도 정렬 상태가 유지됨
+        int[] fill = new int[continents.length];
+        for (int row : byPopulation) {
+            int c = continentIds[row];
+            partitions[c][fill[c]++] = row;
+        }
+        return partitions;
+    }
+
+    /**
+     * 정렬 기준 비교자 (인구 내림차순, 국가 코드 오름차순)
+     */
+    private Comparator<Integer> rankComparator() {
+        return (a, b) -> compareRank(population[a], codes[a], population[b], codes[b]);
+    }
+
+    static int compareRank(long populationA, String codeA, long populationB, String codeB) {
+        int cmp = Long.compare(populationB, populationA);
+        if (cmp != 0) {
+            return cmp;
+        }
+        return Comparator.nullsFirst(String::compareTo).compare(codeA, codeB);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long totalPopulation() {
+        return totalPopulation;
+    }
+
+    /**
+     * 국가 코드에 해당하는 행 번호 (없으면 -1)
+     */
+    public int indexOf(String countryCode) {
+        if (countryCode == null) {
+            return -1;
+        }
+        Integer row = codeIndex.get(normalizeCode(countryCode));
+        return row != null ? row : -1;
+    }
+
+    /**
+     * 인구 순위(0부터)에 해당하는 행 번호
+     */
+    public int rowAtRank(int rank) {
+        return byPopulation[rank];
+    }
+
+    public String code(int row) {
+        return codes[row];
+    }
+
+    public String name(int row) {
+        return names[row];
+    }
+
+    public String continent(int row) {
+        return continents[continentIds[row]];
+    }
+
+    public long population(int row) {
+        return population[row];
+    }
+
+    /**
+     * 1인당 GDP (NULL 이면 NaN)
+     */
+    public double gdpPerCapita(int row) {
+        return toDouble(gdpPerCapita[row], GDP_PER_CAPITA_SCALE);
+    }
+
+    /**
+     * 기대 수명 (NULL 이면 NaN)
+     */
+    public double lifeExpectancy(int row) {
+        return toDouble(lifeExpectancy[row], LIFE_EXPECTANCY_SCALE);
+    }
+
+    public Optional<CountryPopulation> findByCode(String countryCode) {
+        int row = indexOf(countryCode);
+        return row >= 0 ? Optional.of(toCountry(row)) : Optional.empty();
+    }
+
+    public List<CountryPopulation> findByContinent(String continent) {
+        Integer continentId = continentIndex.get(normalizeContinent(continent));
+        if (continentId == null) {
+            return new ArrayList<>();
+        }
+        return materialize(continentByPopulation[continentId], 0, continentByPopulation[continentId].length);
+    }
+
+    public List<CountryPopulation> top(int limit) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        return materialize(byPopulation, 0, Math.min(limit, size));
+    }
+
+    /**
+     * 커서 바로 다음 순위 (정렬 인덱스 이진 탐색)
+     * 커서가 가리키던 국가가 삭제되었더라도 정렬 키 기준으로 이어서 읽을 수 있습니다.
+     */
+    public int rankAfter(KeysetCursor cursor) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int row = byPopulation[mid];
+            if (compareRank(population[row], codes[row], cursor.population(), cursor.countryCode()) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 순위 구간 조회
+     * @param fromRank 시작 순위 (0부터)
+     * @param limit 최대 건수
+     */
+    public List<CountryPopulation> ranked(int fromRank, int limit) {
+        int from = Math.min(Math.max(fromRank, 0), size);
+        int to = (int) Math.min((long) from + Math.max(limit, 0), size);
+        return materialize(byPopulation, from, to);
+    }
+
+    /**
+     * 지정한 행의 커서
+     */
+    public KeysetCursor cursorOf(int row) {
+        return new KeysetCursor(population[row], codes[row]);
+    }
+
+    /**
+     * PageHelper 설정(reasonable, page-size-zero)과 동일한 규칙으로 페이지 구성
+     */
+    public Page<CountryPopulation> page(int pageNum, int pageSize) {
+        Page<CountryPopulation> page = new Page<>(pageNum, Math.max(pageSize, 0));
+        page.setReasonable(true);
+        page.setPageSizeZero(true);
+        page.setTotal(size);
+
+        if (page.getPageSize() == 0) {
+            page.addAll(materialize(byPopulation, 0, size));
+            return page;
+        }
+
+        int from = (int) Math.min(page.getStartRow(), size);
+        int to = (int) Math.min(page.getEndRow(), size);
+        page.addAll(materialize(byPopulation, from, to));
+        return page;
+    }
+
+    /**
+     * 지정한 행을 CountryPopulation 객체로 변환
+     */
+    public CountryPopulation toCountry(int row) {
+        return CountryPopulation.builder()
+                .id(ids[row])
+                .countryCode(codes[row])
+                .countryName(names[row])
+                .continent(continents[continentIds[row]])
+                .population(population[row])
+                .areaSqKm(toDecimal(areaSqKm[row], AREA_SQ_KM_SCALE))
+                .populationDensity(toDecimal(populationDensity[row], POPULATION_DENSITY_SCALE))
+                .gdpPerCapita(toDecimal(gdpPerCapita[row], GDP_PER_CAPITA_SCALE))
+                .lifeExpectancy(toDecimal(lifeExpectancy[row], LIFE_EXPECTANCY_SCALE))
+                .year(years[row] != NO_YEAR ? years[row] : null)
+                .createdAt(createdAt[row])
+                .updatedAt(updatedAt[row])
+                .build();
+    }
+
+    private List<CountryPopulation> materialize(int[] rows, int from, int to) {
+        List<CountryPopulation> result = new ArrayList<>(Math.max(to - from, 0));
+        for (int i = from; i < to; i++) {
+            result.add(toCountry(rows[i]));
+        }
+        return result;
+    }
+
+    /**
+     * 컬럼 스케일 기준 unscaled 값 (DB 와 같이 스케일을 넘는 자리는 반올림)
+     */
+    private static long unscaled(BigDecimal value, int scale) {
+        return value != null ? value.setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValueExact() : NO_DECIMAL;
+    }
+
+    private static BigDecimal toDecimal(long unscaled, int scale) {
+        return unscaled != NO_DECIMAL ? BigDecimal.valueOf(unscaled, scale) : null;
+    }
+
+    private static double toDouble(long unscaled, int scale) {
+        return unscaled != NO_DECIMAL ? unscaled / POWERS_OF_TEN[scale] : Double.NaN;
+    }
+
+    static String normalizeCode(String countryCode) {
+        return countryCode.toUpperCase(Locale.ROOT);
+    }
+
+    static String normalizeContinent(String continent) {
+        return continent != null ? continent.toLowerCase(Locale.ROOT) : "";
+    }
+}
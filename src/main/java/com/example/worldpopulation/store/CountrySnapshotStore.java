@@ -0,0 +1,83 @@
+package com.example.worldpopulation.store;
+
+import com.example.worldpopulation.mapper.CountryPopulationMapper;
+import com.example.worldpopulation.model.CountryPopulation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 국가 스냅샷 보관소
+ * 최초 조회 시 DB 에서 한 번 적재하고, 쓰기 이후에는 새 스냅샷을 만들어 통째로 교체합니다.
+ * 교체할 때마다 {@link CountryChangedEvent} 를 발행하여 파생 인덱스들이 따라오도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CountrySnapshotStore {
+
+    private final CountryPopulationMapper countryMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Object refreshLock = new Object();
+
+    private volatile CountrySnapshot snapshot;
+
+    // refreshLock 으로 보호
+    private long version;
+
+    /**
+     * 현재 스냅샷 조회 (아직 적재되지 않았다면 적재)
+     */
+    public CountrySnapshot current() {
+        CountrySnapshot current = snapshot;
+        if (current == null) {
+            synchronized (refreshLock) {
+                current = snapshot;
+                if (current == null) {
+                    current = reload();
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * DB 에서 다시 읽어 스냅샷 교체 (전체 재적재)
+     */
+    public CountrySnapshot refresh() {
+        synchronized (refreshLock) {
+            CountrySnapshot next = reload();
+            eventPublisher.publishEvent(new CountryChangedEvent(next, null, null));
+            return next;
+        }
+    }
+
+    /**
+     * 특정 국가가 변경된 뒤 스냅샷 교체
+     * @param countryCode 등록/수정/삭제된 국가 코드
+     */
+    public CountrySnapshot refresh(String countryCode) {
+        synchronized (refreshLock) {
+            CountrySnapshot previous = snapshot;
+            CountryPopulation before = previous != null ? previous.findByCode(countryCode).orElse(null) : null;
+            CountrySnapshot next = reload();
+            CountryPopulation after = next.findByCode(countryCode).orElse(null);
+            eventPublisher.publishEvent(new CountryChangedEvent(next, before, after));
+            return next;
+        }
+    }
+
+    private CountrySnapshot reload() {
+        long started = System.nanoTime();
+        List<CountryPopulation> rows = countryMapper.findAll();
+        CountrySnapshot next = CountrySnapshot.build(++version, rows);
+        snapshot = next;
+        log.info("국가 스냅샷 적재 - version: {}, rows: {}, {}ms",
+                next.version(), next.size(), (System.nanoTime() - started) / 1_000_000);
+        return next;
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.worldpopulation.store;
+
+import com.example.worldpopulation.dto.CountrySuggestion;
+import com.example.worldpopulation.model.CountryPopulation;
+import com.example.worldpopulation.util.TextNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 국가 자동완성용 접두어 트라이
+ * 각 노드가 해당 접두어로 시작하는 국가 중 인구 상위 K 개를 미리 들고 있어
+ * 조회 비용이 접두어 길이에만 비례합니다.
+ * 국가명 전체, 국가명의 각 단어 시작, 국가 코드, 한글 국가명의 초성을 키로 등록합니다.
+ */
+@Slf4j
+@Component
+public class CountrySuggestTrie extends SnapshotDerivedStore {
+
+    private static final int[] NO_DOCS = new int[0];
+
+    private final int topK;
+
+    private volatile Trie trie = new Trie(new Node(new char[0], new Node[0], NO_DOCS), new String[0], new String[0]);
+
+    public CountrySuggestTrie(CountrySnapshotStore snapshotStore,
+                              @Value("${app.suggest.top-k:10}") int topK) {
+        super(snapshotStore);
+        this.topK = topK;
+    }
+
+    /**
+     * 접두어 자동완성
+     * @param prefix 입력 중인 문자열
+     * @param limit 최대 건수 (top-k 이하로 제한)
+     */
+    public List<CountrySuggestion> suggest(String prefix, int limit) {
+        ensureCurrent();
+        Trie current = trie;
+
+        Node node = current.root;
+        String key = TextNormalizer.normalize(prefix);
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null || limit <= 0) {
+            return List.of();
+        }
+
+        int count = Math.min(limit, node.top.length);
+        List<CountrySuggestion> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int doc = node.top[i];
+            result.add(new CountrySuggestion(current.codes[doc], current.names[doc]));
+        }
+        return result;
+    }
+
+    @Override
+    protected void rebuild(CountrySnapshot snapshot) {
+        int size = snapshot.size();
+        String[] codes = new String[size];
+        String[] names = new String[size];
+        BuilderNode root = new BuilderNode();
+
+        // 인구 순위 순서로 넣으면 각 노드의 상위 목록이 자연히 정렬 상태가 됨
+        for (int rank = 0; rank < size; rank++) {
+            int row = snapshot.rowAtRank(rank);
+            codes[rank] = snapshot.code(row);
+            names[rank] = snapshot.name(row);
+            for (String key : keys(codes[rank], names[rank])) {
+                root.insert(key, rank, topK);
+            }
+        }
+
+        trie = new Trie(root.freeze(), codes, names);
+        log.debug("국가 자동완성 트라이 재구성 - version: {}, countries: {}", snapshot.version(), size);
+    }
+
+    @Override
+    protected void apply(CountrySnapshot snapshot, CountryPopulation before, CountryPopulation after) {
+        // 상위 K 목록이 노드 전반에 걸쳐 있으므로 쓰기 시에는 통째로 재구성
+        rebuild(snapshot);
+    }
+
+    private static Set<String> keys(String code, String name) {
+        Set<String> keys = new LinkedHashSet<>();
+        String normalizedName = TextNormalizer.normalize(name);
+        keys.add(normalizedName);
+        for (int i = 1; i < normalizedName.length(); i++) {
+            if (!Character.isLetterOrDigit(normalizedName.charAt(i - 1))
+                    && Character.isLetterOrDigit(normalizedName.charAt(i))) {
+                keys.add(normalizedName.substring(i));
+            }
+        }
+        if (code != null) {
+            keys.add(TextNormalizer.normalize(code));
+        }
+        if (TextNormalizer.containsHangul(normalizedName)) {
+            keys.add(TextNormalizer.choseong(normalizedName));
+        }
+        return keys;
+    }
+
+    private record Trie(Node root, String[] codes, String[] names) {
+    }
+
+    /**
+     * 조회 전용 노드 (자식은 문자 오름차순 배열, 이진 탐색)
+     */
+    private record Node(char[] labels, Node[] children, int[] top) {
+
+        Node child(char c) {
+            int low = 0;
+            int high = labels.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (labels[mid] < c) {
+                    low = mid + 1;
+                } else if (labels[mid] > c) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class BuilderNode {
+        private final Map<Character, BuilderNode> children = new TreeMap<>();
+        private final List<Integer> top = new ArrayList<>();
+
+        void insert(String key, int doc, int topK) {
+            BuilderNode node = this;
+            node.offer(doc, topK);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new BuilderNode());
+                node.offer(doc, topK);
+            }
+        }
+
+        private void offer(int doc, int topK) {
+            // 같은 국가의 키들은 연속으로 들어오므로 마지막 항목만 비교하면 중복 제거 가능
+            if (top.size() < topK && (top.isEmpty() || top.get(top.size() - 1) != doc)) {
+                top.add(doc);
+            }
+        }
+
+        Node freeze() {
+            char[] labels = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, BuilderNode> entry : children.entrySet()) {
+                labels[i] = entry.getKey();
+                frozen[i] = entry.getValue().freeze();
+                i++;
+            }
+            int[] docs = new int[top.size()];
+            for (int j = 0; j < docs.length; j++) {
+                docs[j] = top.get(j);
+            }
+            return new Node(labels, frozen, docs);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.worldpopulation.store;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 전역 데이터 버전
+ * 국가 데이터나 인구 이력이 바뀔 때마다 증가하며, 조회 API 의 ETag / Last-Modified 와
+ * 응답 캐시 키로 사용됩니다. 재시작하면 epoch 가 바뀌어 이전 ETag 는 모두 무효가 됩니다.
+ */
+@Component
+public class DataVersion {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicReference<Stamp> stamp = new AtomicReference<>(new Stamp(epoch, 0, System.currentTimeMillis()));
+
+    /**
+     * 현재 버전 (카운터와 변경 시각을 한 번에 읽음)
+     */
+    public Stamp current() {
+        return stamp.get();
+    }
+
+    /**
+     * 데이터 변경 시 버전 증가
+     */
+    public void bump() {
+        long now = System.currentTimeMillis();
+        stamp.updateAndGet(previous -> new Stamp(epoch, previous.counter() + 1, Math.max(now, previous.lastModified())));
+    }
+
+    @EventListener
+    public void onCountryChanged(CountryChangedEvent event) {
+        bump();
+    }
+
+    /**
+     * @param counter 기동 이후 변경 횟수
+     * @param lastModified 마지막 변경 시각 (epoch millis)
+     */
+    public record Stamp(String epoch, long counter, long lastModified) {
+
+        public String etag() {
+            return "W/\"" + epoch + "-" + counter + "\"";
+        }
+    }
+}
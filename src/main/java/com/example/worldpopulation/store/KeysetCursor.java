@@ -0,0 +1,34 @@
+package com.example.worldpopulation.store;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 국가 목록 커서 (정렬 키: 인구 내림차순, 국가 코드 오름차순)
+ * 클라이언트에는 Base64URL 로 인코딩한 불투명 토큰으로만 노출합니다.
+ *
+ * @param population 마지막으로 받은 행의 인구
+ * @param countryCode 마지막으로 받은 행의 국가 코드
+ */
+public record KeysetCursor(long population, String countryCode) {
+
+    private static final char SEPARATOR = ':';
+
+    public String encode() {
+        String raw = population + String.valueOf(SEPARATOR) + countryCode;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 해석
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static KeysetCursor decode(String token) {
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator <= 0 || separator == raw.length() - 1) {
+            throw new IllegalArgumentException("잘못된 커서 형식: " + token);
+        }
+        return new KeysetCursor(Long.parseLong(raw.substring(0, separator)), raw.substring(separator + 1));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.worldpopulation.store;
+
+import com.example.worldpopulation.dto.CacheStats;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 페이징 전체 건수 캐시
+ * (메서드, 조건 인자, 테이블 버전) 별로 COUNT 결과를 보관합니다. 테이블이 바뀌면 버전이 달라져
+ * 이전 항목은 더 이상 조회되지 않고, 애플리케이션 밖에서의 변경에 대비해 TTL 로도 만료됩니다.
+ */
+@Component
+public class PageCountCache {
+
+    private final TableVersions tableVersions;
+    private final Cache<Key, Long> counts;
+
+    public PageCountCache(TableVersions tableVersions,
+                          @Value("${app.count-cache.ttl:10m}") Duration ttl,
+                          @Value("${app.count-cache.max-size:10000}") long maxSize) {
+        this.tableVersions = tableVersions;
+        this.counts = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 현재 테이블 버전을 반영한 캐시 키
+     * COUNT 실행 전에 만들어야 실행 중에 들어온 변경이 있을 때 오래된 값이 새 버전으로 저장되지 않습니다.
+     */
+    public Key key(Object statement, List<Object> args, String[] tables) {
+        return new Key(statement, args, tableVersions.version(tables));
+    }
+
+    /**
+     * @return 캐시된 전체 건수 (없으면 null)
+     */
+    public Long get(Key key) {
+        return counts.getIfPresent(key);
+    }
+
+    public void put(Key key, long total) {
+        counts.put(key, total);
+    }
+
+    public CacheStats stats() {
+        return CacheStats.of("pageCount", counts);
+    }
+
+    public record Key(Object statement, List<Object> args, long version) {
+    }
+}
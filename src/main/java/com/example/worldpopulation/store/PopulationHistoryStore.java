@@ -0,0 +1,122 @@
+package com.example.worldpopulation.store;
+
+import com.example.worldpopulation.mapper.PopulationHistoryMapper;
+import com.example.worldpopulation.model.PopulationHistory;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 인구 이력 보관소
+ * 최초 조회 시 population_history 전체를 한 번 읽어 국가별 {@link PopulationSeries} 로 보관하고,
+ * 이력 등록 시 해당 국가의 이력만 새로 만들어 교체합니다.
+ */
+@Slf4j
+@Component
+public class PopulationHistoryStore {
+
+    private final PopulationHistoryMapper historyMapper;
+    private final DataVersion dataVersion;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Object lock = new Object();
+
+    // 불변 맵을 통째로 교체 (국가 코드 대문자 키)
+    private volatile Map<String, PopulationSeries> series;
+
+    public PopulationHistoryStore(PopulationHistoryMapper historyMapper,
+                                  DataVersion dataVersion,
+                                  PlatformTransactionManager transactionManager) {
+        this.historyMapper = historyMapper;
+        this.dataVersion = dataVersion;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 국가별 이력 조회 (없으면 빈 이력)
+     */
+    public PopulationSeries find(String countryCode) {
+        return loaded().getOrDefault(CountrySnapshot.normalizeCode(countryCode), PopulationSeries.EMPTY);
+    }
+
+    /**
+     * 이력 등록 후 보관소 반영
+     */
+    public void put(String countryCode, int year, long population, Double growthRate) {
+        synchronized (lock) {
+            Map<String, PopulationSeries> next = new HashMap<>(loaded());
+            next.merge(CountrySnapshot.normalizeCode(countryCode),
+                    PopulationSeries.EMPTY.with(year, population, growthRate),
+                    (current, ignored) -> current.with(year, population, growthRate));
+            series = Map.copyOf(next);
+        }
+        dataVersion.bump();
+    }
+
+    /**
+     * 대량 적재 등으로 테이블이 바뀐 뒤 다음 조회 때 다시 읽도록 표시
+     */
+    public void invalidate() {
+        synchronized (lock) {
+            series = null;
+        }
+        dataVersion.bump();
+    }
+
+    private Map<String, PopulationSeries> loaded() {
+        Map<String, PopulationSeries> current = series;
+        if (current == null) {
+            synchronized (lock) {
+                current = series;
+                if (current == null) {
+                    current = load();
+                    series = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Map<String, PopulationSeries> load() {
+        long started = System.nanoTime();
+        Map<String, PopulationSeries> loaded = readOnlyTransaction.execute(status -> {
+            Map<String, PopulationSeries> result = new HashMap<>();
+            // 국가 코드, 년도 순으로 정렬되어 오므로 국가가 바뀔 때마다 이력 하나를 완성
+            try (Cursor<PopulationHistory> cursor = historyMapper.streamAll(null)) {
+                String code = null;
+                PopulationSeries.Builder builder = null;
+                for (PopulationHistory row : cursor) {
+                    if (row.getCountryCode() == null || row.getYear() == null || row.getPopulation() == null) {
+                        continue;
+                    }
+                    String rowCode = CountrySnapshot.normalizeCode(row.getCountryCode());
+                    if (!rowCode.equals(code)) {
+                        if (builder != null) {
+                            result.put(code, builder.build());
+                        }
+                        code = rowCode;
+                        builder = PopulationSeries.builder();
+                    }
+                    builder.add(row.getYear(), row.getPopulation(), row.getGrowthRate());
+                }
+                if (builder != null) {
+                    result.put(code, builder.build());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return result;
+        });
+        Map<String, PopulationSeries> result = loaded != null ? Map.copyOf(loaded) : Map.of();
+        log.info("인구 이력 적재 - countries: {}, {}ms", result.size(), (System.nanoTime() - started) / 1_000_000);
+        return result;
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.worldpopulation.store;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 한 국가의 연도별 인구 이력 (년도 오름차순, 불변)
+ * 연도/인구/성장률을 원시 배열로 나란히 보관하며, JSON 으로는
+ * 기존과 같은 [{year, population, growthRate}] 배열로 직렬화됩니다.
+ */
+@Schema(description = "연도별 인구 이력 [{year, population, growthRate}]")
+@JsonSerialize(using = PopulationSeries.Serializer.class)
+public final class PopulationSeries {
+
+    public static final PopulationSeries EMPTY = new PopulationSeries(new int[0], new long[0], new float[0]);
+
+    private final int[] years;
+    private final long[] population;
+    // NULL 은 NaN 으로 보관
+    private final float[] growthRate;
+
+    private PopulationSeries(int[] years, long[] population, float[] growthRate) {
+        this.years = years;
+        this.population = population;
+        this.growthRate = growthRate;
+    }
+
+    public int size() {
+        return years.length;
+    }
+
+    public boolean isEmpty() {
+        return years.length == 0;
+    }
+
+    public int year(int i) {
+        return years[i];
+    }
+
+    public long population(int i) {
+        return population[i];
+    }
+
+    /**
+     * 성장률 (없으면 NaN)
+     */
+    public float growthRate(int i) {
+        return growthRate[i];
+    }
+
+    /**
+     * 해당 년도 값을 추가하거나 교체한 새 이력
+     */
+    public PopulationSeries with(int year, long population, Double growthRate) {
+        float rate = growthRate != null ? growthRate.floatValue() : Float.NaN;
+        int at = Arrays.binarySearch(years, year);
+        if (at >= 0) {
+            PopulationSeries copy = new PopulationSeries(years, this.population.clone(), this.growthRate.clone());
+            copy.population[at] = population;
+            copy.growthRate[at] = rate;
+            return copy;
+        }
+        int insert = -at - 1;
+        int size = years.length;
+        int[] nextYears = new int[size + 1];
+        long[] nextPopulation = new long[size + 1];
+        float[] nextGrowth = new float[size + 1];
+        System.arraycopy(years, 0, nextYears, 0, insert);
+        System.arraycopy(this.population, 0, nextPopulation, 0, insert);
+        System.arraycopy(this.growthRate, 0, nextGrowth, 0, insert);
+        nextYears[insert] = year;
+        nextPopulation[insert] = population;
+        nextGrowth[insert] = rate;
+        System.arraycopy(years, insert, nextYears, insert + 1, size - insert);
+        System.arraycopy(this.population, insert, nextPopulation, insert + 1, size - insert);
+        System.arraycopy(this.growthRate, insert, nextGrowth, insert + 1, size - insert);
+        return new PopulationSeries(nextYears, nextPopulation, nextGrowth);
+    }
+
+    /**
+     * 년도 구간 [from, to] 만 남긴 이력 (null 이면 제한 없음)
+     */
+    public PopulationSeries between(Integer from, Integer to) {
+        int start = from != null ? lowerBound(from) : 0;
+        int end = to != null ? lowerBound(to == Integer.MAX_VALUE ? to : to + 1) : years.length;
+        if (start == 0 && end == years.length) {
+            return this;
+        }
+        if (start >= end) {
+            return EMPTY;
+        }
+        return new PopulationSeries(Arrays.copyOfRange(years, start, end),
+                Arrays.copyOfRange(population, start, end), Arrays.copyOfRange(growthRate, start, end));
+    }
+
+    /**
+     * 차트용 다운샘플링 (Largest-Triangle-Three-Buckets)
+     * 처음과 마지막 년도는 유지하고, 나머지 구간마다 인구 곡선의 모양을 가장 잘 보존하는 한 점을 고릅니다.
+     * @param maxPoints 최대 점 개수 (3 미만이거나 이력이 더 짧으면 그대로)
+     */
+    public PopulationSeries downsample(int maxPoints) {
+        int size = years.length;
+        if (maxPoints < 3 || size <= maxPoints) {
+            return this;
+        }
+        int[] picked = new int[maxPoints];
+        double bucketSize = (double) (size - 2) / (maxPoints - 2);
+        int previous = 0;
+        for (int bucket = 0; bucket < maxPoints - 2; bucket++) {
+            int start = (int) (bucket * bucketSize) + 1;
+            int end = (int) ((bucket + 1) * bucketSize) + 1;
+
+            // 다음 구간의 평균점
+            int nextStart = end;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, size);
+            double avgYear = 0;
+            double avgPopulation = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgYear += years[i];
+                avgPopulation += population[i];
+            }
+            int nextCount = Math.max(nextEnd - nextStart, 1);
+            avgYear /= nextCount;
+            avgPopulation /= nextCount;
+
+            double maxArea = -1;
+            int best = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((years[previous] - avgYear) * (population[i] - population[previous])
+                        - (years[previous] - years[i]) * (avgPopulation - population[previous]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    best = i;
+                }
+            }
+            picked[bucket + 1] = best;
+            previous = best;
+        }
+        picked[maxPoints - 1] = size - 1;
+
+        int[] nextYears = new int[maxPoints];
+        long[] nextPopulation = new long[maxPoints];
+        float[] nextGrowth = new float[maxPoints];
+        for (int i = 0; i < maxPoints; i++) {
+            nextYears[i] = years[picked[i]];
+            nextPopulation[i] = population[picked[i]];
+            nextGrowth[i] = growthRate[picked[i]];
+        }
+        return new PopulationSeries(nextYears, nextPopulation, nextGrowth);
+    }
+
+    private int lowerBound(int year) {
+        int at = Arrays.binarySearch(years, year);
+        return at >= 0 ? at : -at - 1;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 년도 오름차순으로 값을 채우는 빌더 (같은 년도는 마지막 값 사용)
+     */
+    public static final class Builder {
+        private int[] years = new int[16];
+        private long[] population = new long[16];
+        private float[] growthRate = new float[16];
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder add(int year, long population, Double growthRate) {
+            if (size > 0 && years[size - 1] >= year) {
+                if (years[size - 1] > year) {
+                    throw new IllegalArgumentException("년도는 오름차순이어야 합니다: " + year);
+                }
+                size--;
+            }
+            if (size == years.length) {
+                int capacity = size * 2;
+                years = Arrays.copyOf(years, capacity);
+                this.population = Arrays.copyOf(this.population, capacity);
+                this.growthRate = Arrays.copyOf(this.growthRate, capacity);
+            }
+            years[size] = year;
+            this.population[size] = population;
+            this.growthRate[size] = growthRate != null ? growthRate.floatValue() : Float.NaN;
+            size++;
+            return this;
+        }
+
+        public PopulationSeries build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            return new PopulationSeries(Arrays.copyOf(years, size),
+                    Arrays.copyOf(population, size), Arrays.copyOf(growthRate, size));
+        }
+    }
+
+    static final class Serializer extends StdSerializer<PopulationSeries> {
+
+        Serializer() {
+            super(PopulationSeries.class);
+        }
+
+        @Override
+        public void serialize(PopulationSeries series, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray(series, series.size());
+            for (int i = 0; i < series.size(); i++) {
+                gen.writeStartObject();
+                gen.writeNumberField("year", series.years[i]);
+                gen.writeNumberField("population", series.population[i]);
+                if (Float.isNaN(series.growthRate[i])) {
+                    gen.writeNullField("growthRate");
+                } else {
+                    gen.writeNumberField("growthRate", series.growthRate[i]);
+                }
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.worldpopulation.store;
+
+import com.example.worldpopulation.dto.ResponseCacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화가 끝난 응답 바이트 캐시 (LRU)
+ * 요청 경로+파라미터별로 JSON 본문과 gzip 압축본을 함께 보관하며,
+ * 저장 당시의 데이터 버전이 현재와 다르면 없는 것으로 취급합니다.
+ * 전체 바이트 수와 항목 수를 넘으면 가장 오래 쓰이지 않은 항목부터 제거합니다.
+ */
+@Component
+public class ResponseCache {
+
+    private final DataVersion dataVersion;
+    private final int maxEntries;
+    private final long maxBytes;
+
+    // this 로 보호 (접근 순서 유지)
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ResponseCache(DataVersion dataVersion,
+                         @Value("${app.response-cache.max-entries:256}") int maxEntries,
+                         @Value("${app.response-cache.max-bytes:8388608}") long maxBytes) {
+        this.dataVersion = dataVersion;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 현재 데이터 버전의 캐시 항목 조회 (없거나 오래되었으면 null)
+     */
+    public Entry get(String key) {
+        long version = dataVersion.current().counter();
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && entry.version() != version) {
+                remove(key);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return entry;
+    }
+
+    /**
+     * 응답 본문 저장
+     * @param version 응답을 만들기 전에 읽은 데이터 버전
+     */
+    public void put(String key, long version, String contentType, byte[] body) {
+        if (body.length > maxBytes / 4) {
+            return;
+        }
+        Entry entry = new Entry(version, contentType, body, gzip(body));
+        synchronized (this) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                bytes -= previous.size();
+            }
+            bytes += entry.size();
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while ((entries.size() > maxEntries || bytes > maxBytes) && eldest.hasNext()) {
+                bytes -= eldest.next().getValue().size();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    public ResponseCacheStats stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        synchronized (this) {
+            return ResponseCacheStats.builder()
+                    .entries(entries.size())
+                    .bytes(bytes)
+                    .maxEntries(maxEntries)
+                    .maxBytes(maxBytes)
+                    .hits(hitCount)
+                    .misses(missCount)
+                    .evictions(evictions.sum())
+                    .hitRate(total > 0 ? (double) hitCount / total : 0)
+                    .build();
+        }
+    }
+
+    private void remove(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.size();
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(body.length / 4, 64));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @param version 저장 당시 데이터 버전
+     * @param body 원본 본문 (UTF-8 JSON)
+     * @param gzipBody gzip 압축본
+     */
+    public record Entry(long version, String contentType, byte[] body, byte[] gzipBody) {
+
+        long size() {
+            return body.length + gzipBody.length;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.worldpopulation.store;
+
+import com.example.worldpopulation.model.CountryPopulation;
+import org.springframework.context.event.EventListener;
+
+/**
+ * 국가 스냅샷에서 파생되는 인메모리 구조의 공통 동기화 로직
+ * 연속된 단건 변경은 증분 반영하고, 버전이 건너뛰었거나 전체 재적재된 경우에는 다시 구성합니다.
+ */
+public abstract class SnapshotDerivedStore {
+
+    private final CountrySnapshotStore snapshotStore;
+
+    // 반영된 스냅샷 버전 (0 이면 아직 구성되지 않음)
+    private volatile long version;
+
+    protected SnapshotDerivedStore(CountrySnapshotStore snapshotStore) {
+        this.snapshotStore = snapshotStore;
+    }
+
+    /**
+     * 스냅샷 전체로 다시 구성
+     */
+    protected abstract void rebuild(CountrySnapshot snapshot);
+
+    /**
+     * 단건 변경 반영
+     * @param snapshot 변경이 반영된 새 스냅샷
+     * @param before 변경 전 행 (신규 등록이면 null)
+     * @param after 변경 후 행 (삭제면 null)
+     */
+    protected abstract void apply(CountrySnapshot snapshot, CountryPopulation before, CountryPopulation after);
+
+    @EventListener
+    public synchronized void onCountryChanged(CountryChangedEvent event) {
+        long next = event.snapshot().version();
+        if (next <= version) {
+            return;
+        }
+        if (version == 0 || next != version + 1 || event.isFullReload()) {
+            rebuild(event.snapshot());
+        } else {
+            apply(event.snapshot(), event.before(), event.after());
+        }
+        version = next;
+    }
+
+    /**
+     * 조회 전에 호출하여 최신 스냅샷이 반영되었는지 확인
+     * @return 반영된 스냅샷
+     */
+    protected CountrySnapshot ensureCurrent() {
+        // 스냅샷 조회는 락 밖에서 수행 (스냅샷 교체 락과의 교착 방지)
+        CountrySnapshot snapshot = snapshotStore.current();
+        if (snapshot.version() != version) {
+            synchronized (this) {
+                if (snapshot.version() > version) {
+                    rebuild(snapshot);
+                    version = snapshot.version();
+                }
+            }
+        }
+        return snapshot;
+    }
+}
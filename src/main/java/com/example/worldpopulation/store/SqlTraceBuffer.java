@@ -0,0 +1,59 @@
+package com.example.worldpopulation.store;
+
+import com.example.worldpopulation.dto.SqlTrace;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 SQL 추적 항목 링 버퍼 (잠금 없음)
+ * 기록은 순번을 하나 받아 해당 칸을 덮어쓰기만 하므로, 가득 차면 가장 오래된 항목부터 사라집니다.
+ */
+@Component
+public class SqlTraceBuffer {
+
+    private final AtomicReferenceArray<SqlTrace> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SqlTraceBuffer(@Value("${app.sql-trace.buffer-size:256}") int capacity) {
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    public void add(SqlTrace trace) {
+        int slot = (int) Math.floorMod(sequence.getAndIncrement(), (long) slots.length());
+        slots.set(slot, trace);
+    }
+
+    /**
+     * 저장된 항목 (최신순)
+     */
+    public List<SqlTrace> snapshot() {
+        List<SqlTrace> traces = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            SqlTrace trace = slots.get(i);
+            if (trace != null) {
+                traces.add(trace);
+            }
+        }
+        traces.sort(Comparator.comparing(SqlTrace::getTimestamp).reversed());
+        return traces;
+    }
+
+    /**
+     * 지금까지 기록된 총 건수 (덮어쓴 항목 포함)
+     */
+    public long recorded() {
+        return sequence.get();
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+}
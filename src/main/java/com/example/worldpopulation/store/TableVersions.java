@@ -0,0 +1,48 @@
+package com.example.worldpopulation.store;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테이블별 변경 버전
+ * MyBatis 변경 구문이 실행될 때마다 대상 테이블의 버전이 증가합니다.
+ * 대상 테이블을 알 수 없는 변경은 전체 버전을 올려 모든 테이블이 바뀐 것으로 봅니다.
+ */
+@Component
+public class TableVersions {
+
+    private final AtomicLong all = new AtomicLong();
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 테이블 변경 기록
+     * @param table 테이블 이름 (null 이면 전체)
+     */
+    public void bump(String table) {
+        if (table == null) {
+            all.incrementAndGet();
+        } else {
+            counter(table).incrementAndGet();
+        }
+    }
+
+    /**
+     * 주어진 테이블들의 합산 버전
+     * 각 버전은 증가만 하므로 어느 테이블이든 바뀌면 합도 반드시 커집니다.
+     */
+    public long version(String... tables) {
+        long sum = all.get();
+        for (String table : tables) {
+            sum += counter(table).get();
+        }
+        return sum;
+    }
+
+    private AtomicLong counter(String table) {
+        return versions.computeIfAbsent(table.toLowerCase(Locale.ROOT), key -> new AtomicLong());
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.worldpopulation.store;
+
+import com.example.worldpopulation.mapper.RevokedTokenMapper;
+import com.example.worldpopulation.model.RevokedToken;
+import com.example.worldpopulation.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 토큰(jti) 목록
+ * 대부분의 토큰은 폐기되지 않았으므로 블룸 필터로 먼저 걸러내고, 필터가 있을 수 있다고 답한 경우에만
+ * 정확한 맵을 확인합니다. 폐기 기록은 revoked_tokens 테이블에 남겨 재시작 후 첫 확인 때 다시 읽습니다.
+ * 테이블을 읽지 못하면 요청을 막지 않고(fail-open) 잠시 뒤 다시 시도합니다.
+ */
+@Slf4j
+@Component
+public class TokenDenylist {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final Duration LOAD_RETRY = Duration.ofMinutes(1);
+
+    private final RevokedTokenMapper revokedTokenMapper;
+    private final int expectedSize;
+
+    // jti → 토큰 만료 시각
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    // 블룸 필터 교체와 추가는 this 로 직렬화 (조회는 잠금 없음)
+    private volatile BloomFilter bloomFilter;
+
+    private volatile boolean loaded;
+    private volatile Instant nextLoadAttempt = Instant.MIN;
+
+    public TokenDenylist(RevokedTokenMapper revokedTokenMapper,
+                         @Value("${app.token-denylist.expected-size:100000}") int expectedSize) {
+        this.revokedTokenMapper = revokedTokenMapper;
+        this.expectedSize = expectedSize;
+        this.bloomFilter = new BloomFilter(expectedSize, FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * 폐기된 토큰인지 확인
+     */
+    public boolean isRevoked(String jti) {
+        ensureLoaded();
+        if (!bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        Instant expiresAt = revoked.get(jti);
+        return expiresAt != null && expiresAt.isAfter(Instant.now());
+    }
+
+    /**
+     * 토큰 폐기 (만료 시각까지 거부)
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        try {
+            revokedTokenMapper.insert(RevokedToken.builder()
+                    .jti(jti)
+                    .expiresAt(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+                    .build());
+        } catch (RuntimeException e) {
+            // 저장에 실패해도 이 인스턴스에서는 즉시 거부
+            log.warn("폐기 토큰 저장 실패 - jti: {}: {}", jti, e.getMessage());
+        }
+        synchronized (this) {
+            revoked.put(jti, expiresAt);
+            bloomFilter.put(jti);
+        }
+    }
+
+    /**
+     * 만료된 기록 정리 (메모리, 테이블)
+     */
+    @Scheduled(fixedDelayString = "${app.token-denylist.cleanup-interval:10m}",
+            initialDelayString = "${app.token-denylist.cleanup-interval:10m}")
+    public void cleanup() {
+        Instant now = Instant.now();
+        int before = revoked.size();
+        synchronized (this) {
+            revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+            rebuildBloomFilter();
+        }
+        try {
+            int deleted = revokedTokenMapper.deleteExpired(LocalDateTime.ofInstant(now, ZoneId.systemDefault()));
+            log.debug("폐기 토큰 정리 - memory: {} → {}, table: {} 행 삭제", before, revoked.size(), deleted);
+        } catch (RuntimeException e) {
+            log.warn("폐기 토큰 테이블 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded || Instant.now().isBefore(nextLoadAttempt)) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded || Instant.now().isBefore(nextLoadAttempt)) {
+                return;
+            }
+            try {
+                for (RevokedToken token : revokedTokenMapper.findActive(LocalDateTime.now())) {
+                    revoked.putIfAbsent(token.getJti(), token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant());
+                }
+                rebuildBloomFilter();
+                loaded = true;
+                log.info("폐기 토큰 적재 - {} 건", revoked.size());
+            } catch (RuntimeException e) {
+                nextLoadAttempt = Instant.now().plus(LOAD_RETRY);
+                log.warn("폐기 토큰 적재 실패, {}초 뒤 재시도: {}", LOAD_RETRY.toSeconds(), e.getMessage());
+            }
+        }
+    }
+
+    private void rebuildBloomFilter() {
+        BloomFilter next = new BloomFilter(Math.max(expectedSize, revoked.size() * 2), FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(next::put);
+        bloomFilter = next;
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.worldpopulation.store;
+
+import com.example.worldpopulation.mapper.UserRevocationMapper;
+import com.example.worldpopulation.model.UserRevocation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 토큰 무효화 시각
+ * 권한 변경, 비활성화, 삭제 시 그 시각 이전에 발급된 토큰을 거부하여
+ * 토큰의 권한 클레임을 믿고 DB 조회를 생략해도 변경이 곧바로 반영되도록 합니다.
+ * 기록은 user_revocations 테이블에 남겨 재시작 후 첫 확인 때 다시 읽고, 다른 인스턴스의 기록은
+ * 주기적으로 다시 읽어 반영합니다. 테이블을 읽지 못하면 요청을 막지 않고(fail-open) 잠시 뒤 다시 시도합니다.
+ * 토큰 유효 기간이 지난 기록은 의미가 없으므로 정리합니다.
+ */
+@Slf4j
+@Component
+public class UserRevocationRegistry {
+
+    private static final Duration LOAD_RETRY = Duration.ofMinutes(1);
+
+    private final UserRevocationMapper userRevocationMapper;
+    private final Duration tokenLifetime;
+
+    private final Map<String, Instant> revokedAt = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded;
+    private volatile Instant nextLoadAttempt = Instant.MIN;
+
+    public UserRevocationRegistry(UserRevocationMapper userRevocationMapper,
+                                  @Value("${jwt.expiration}") long expirationMillis) {
+        this.userRevocationMapper = userRevocationMapper;
+        this.tokenLifetime = Duration.ofMillis(expirationMillis);
+    }
+
+    /**
+     * 지금까지 발급된 해당 사용자의 토큰 무효화
+     */
+    public void revoke(String username) {
+        // iat 가 초 단위이므로 무효화 시각도 초 단위로 맞춤
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        try {
+            userRevocationMapper.upsert(UserRevocation.builder()
+                    .username(username)
+                    .revokedAt(LocalDateTime.ofInstant(now, ZoneId.systemDefault()))
+                    .build());
+        } catch (RuntimeException e) {
+            // 저장에 실패해도 이 인스턴스에서는 즉시 거부
+            log.warn("토큰 무효화 저장 실패 - username: {}: {}", username, e.getMessage());
+        }
+        revokedAt.merge(username, now, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    /**
+     * 무효화 이후 재발급 받지 않은 토큰인지 여부
+     * @param issuedAt 토큰 발급 시각 (없으면 무효화 기록이 있는 한 거부)
+     */
+    public boolean isRevoked(String username, Instant issuedAt) {
+        ensureLoaded();
+        Instant revoked = revokedAt.get(username);
+        if (revoked == null) {
+            return false;
+        }
+        if (revoked.plus(tokenLifetime).isBefore(Instant.now())) {
+            revokedAt.remove(username, revoked);
+            return false;
+        }
+        // 같은 초에 발급된 토큰도 거부
+        return issuedAt == null || !issuedAt.isAfter(revoked);
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 기록 반영 및 만료된 기록 정리 (메모리, 테이블)
+     */
+    @Scheduled(fixedDelayString = "${app.user-revocation.refresh-interval:1m}",
+            initialDelayString = "${app.user-revocation.refresh-interval:1m}")
+    public void refresh() {
+        Instant expired = Instant.now().minus(tokenLifetime);
+        revokedAt.values().removeIf(revoked -> revoked.isBefore(expired));
+        if (!loaded) {
+            ensureLoaded();
+            return;
+        }
+        try {
+            int deleted = userRevocationMapper.deleteBefore(LocalDateTime.ofInstant(expired, ZoneId.systemDefault()));
+            load(expired);
+            log.debug("토큰 무효화 기록 갱신 - memory: {}, table: {} 행 삭제", revokedAt.size(), deleted);
+        } catch (RuntimeException e) {
+            log.warn("토큰 무효화 기록 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded || Instant.now().isBefore(nextLoadAttempt)) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded || Instant.now().isBefore(nextLoadAttempt)) {
+                return;
+            }
+            try {
+                load(Instant.now().minus(tokenLifetime));
+                loaded = true;
+                log.info("토큰 무효화 기록 적재 - {} 건", revokedAt.size());
+            } catch (RuntimeException e) {
+                nextLoadAttempt = Instant.now().plus(LOAD_RETRY);
+                log.warn("토큰 무효화 기록 적재 실패, {}초 뒤 재시도: {}", LOAD_RETRY.toSeconds(), e.getMessage());
+            }
+        }
+    }
+
+    private void load(Instant since) {
+        for (UserRevocation revocation : userRevocationMapper.findSince(LocalDateTime.ofInstant(since, ZoneId.systemDefault()))) {
+            Instant revoked = revocation.getRevokedAt().atZone(ZoneId.systemDefault()).toInstant();
+            revokedAt.merge(revocation.getUsername(), revoked, (current, next) -> next.isAfter(current) ? next : current);
+        }
+    }
+}
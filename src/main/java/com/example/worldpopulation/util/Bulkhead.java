@@ -0,0 +1,47 @@
+package com.example.worldpopulation.util;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시 호출 수 제한 (세마포어)
+ * 대기하지 않고 즉시 거절하여, 느린 외부 호출이 다른 작업의 자원을 잠식하지 않도록 합니다.
+ */
+public class Bulkhead {
+
+    private final int maxConcurrent;
+    private final Semaphore permits;
+    private final LongAdder rejected = new LongAdder();
+
+    public Bulkhead(int maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 자리 확보 (확보한 경우 반드시 {@link #release()} 호출)
+     */
+    public boolean tryAcquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int available() {
+        return permits.availablePermits();
+    }
+
+    public long rejectedCalls() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.worldpopulation.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 형식의 한 줄 CSV 처리
+ * 따옴표로 감싼 필드와 이중 따옴표 이스케이프를 지원합니다. (필드 내 줄바꿈은 미지원)
+ */
+public final class CsvUtils {
+
+    private CsvUtils() {
+    }
+
+    /**
+     * 한 줄을 필드 목록으로 분리
+     */
+    public static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * 필드 값을 CSV 형식으로 이스케이프 (null 은 빈 값)
+     */
+    public static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        boolean needsQuote = false;
+        for (int i = 0; i < text.length() && !needsQuote; i++) {
+            char c = text.charAt(i);
+            needsQuote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return needsQuote ? '"' + text.replace("\"", "\"\"") + '"' : text;
+    }
+}
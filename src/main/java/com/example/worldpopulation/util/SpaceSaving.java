@@ -0,0 +1,99 @@
+package com.example.worldpopulation.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 빈도 상위 항목 추정
+ * 최대 capacity 개의 카운터만 유지하며, 가득 찬 상태에서 새 키가 오면 가장 작은 카운터를 물려받습니다.
+ * 추정 빈도는 실제보다 크거나 같고, 그 오차는 물려받은 값(error) 이하입니다.
+ * 카운터 수가 작은(수백 이하) 용도를 가정하여 최솟값은 선형 탐색으로 찾습니다.
+ */
+public class SpaceSaving {
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+
+    public SpaceSaving(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * 키 관측
+     * @param key 집계 키
+     * @param label 키에 연결해 둘 값 (예: 정규화 전 원래 이름, 마지막 관측 값으로 갱신)
+     */
+    public synchronized void offer(String key, String label) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.count++;
+            counter.label = label;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(key, new Counter(key, label, 1, 0));
+            return;
+        }
+        Counter min = null;
+        for (Counter candidate : counters.values()) {
+            if (min == null || candidate.count < min.count) {
+                min = candidate;
+            }
+        }
+        counters.remove(min.key);
+        counters.put(key, new Counter(key, label, min.count + 1, min.count));
+    }
+
+    /**
+     * 추정 빈도 상위 n 개 (내림차순)
+     */
+    public synchronized List<Item> top(int n) {
+        List<Item> items = new ArrayList<>(counters.size());
+        for (Counter counter : counters.values()) {
+            items.add(new Item(counter.key, counter.label, counter.count, counter.error));
+        }
+        items.sort(Comparator.comparingLong(Item::count).reversed().thenComparing(Item::key));
+        return items.size() > n ? List.copyOf(items.subList(0, n)) : items;
+    }
+
+    /**
+     * 모든 카운터를 절반으로 줄임 (오래된 관측의 비중을 낮춤, 0 이 된 카운터는 제거)
+     */
+    public synchronized void decay() {
+        counters.values().removeIf(counter -> {
+            counter.count /= 2;
+            counter.error /= 2;
+            return counter.count == 0;
+        });
+    }
+
+    /**
+     * @param key 집계 키
+     * @param label 마지막으로 관측된 값
+     * @param count 추정 빈도 (실제 빈도 이상)
+     * @param error 과대 추정 최대치
+     */
+    public record Item(String key, String label, long count, long error) {
+    }
+
+    private static final class Counter {
+        private final String key;
+        private String label;
+        private long count;
+        private long error;
+
+        Counter(String key, String label, long count, long error) {
+            this.key = key;
+            this.label = label;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
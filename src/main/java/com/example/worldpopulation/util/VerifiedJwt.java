@@ -0,0 +1,28 @@
+package com.example.worldpopulation.util;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 서명과 만료 시각 검증을 마친 JWT 의 클레임
+ * @param tokenId 토큰 ID (jti, 이전 토큰은 null)
+ * @param username 사용자명 (subject)
+ * @param issuedAt 발급 시각
+ * @param expiresAt 만료 시각
+ * @param roles 권한 목록 (예: ROLE_ADMIN, 권한 클레임이 없는 이전 토큰은 null)
+ * @param enabled 발급 시점의 계정 활성 여부 (이전 토큰은 null)
+ */
+public record VerifiedJwt(String tokenId, String username, Instant issuedAt, Instant expiresAt,
+                          List<String> roles, Boolean enabled) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    /**
+     * DB 조회 없이 인증 정보를 만들 수 있는 토큰인지 여부
+     */
+    public boolean hasAuthorityClaims() {
+        return roles != null && enabled != null;
+    }
+}
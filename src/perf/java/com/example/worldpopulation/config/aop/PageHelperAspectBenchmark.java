@@ -0,0 +1,94 @@
+package com.example.worldpopulation.config.aop;
+
+import com.example.worldpopulation.config.annotation.KeysetPageable;
+import com.example.worldpopulation.config.annotation.Pageable;
+import com.example.worldpopulation.config.annotation.PageableQuery;
+import com.example.worldpopulation.config.annotation.PagingMode;
+import com.example.worldpopulation.dto.KeysetPageRequest;
+import com.example.worldpopulation.store.PageCountCache;
+import com.example.worldpopulation.store.TableVersions;
+import lombok.Data;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 페이징 AOP 자체의 비용 (대상 메서드는 즉시 반환, DB 없음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageHelperAspectBenchmark {
+
+    private PagedQueries proxy;
+    private PageRequest pageRequest;
+    private KeysetPageRequest keysetRequest;
+
+    @Setup
+    public void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new PagedQueries());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new PageHelperAspect(new PageCountCache(new TableVersions(), Duration.ofMinutes(10), 10_000)));
+        proxy = factory.getProxy();
+
+        pageRequest = new PageRequest();
+        pageRequest.setPageNum(3);
+        pageRequest.setPageSize(20);
+        keysetRequest = new KeysetPageRequest();
+        keysetRequest.setPageSize(20);
+    }
+
+    @Benchmark
+    public Object offset() {
+        return proxy.offset("asia", pageRequest);
+    }
+
+    @Benchmark
+    public Object keyset() {
+        return proxy.keyset(keysetRequest);
+    }
+
+    @Benchmark
+    public Object direct() {
+        return proxy.plain("asia", pageRequest);
+    }
+
+    public static class PagedQueries {
+
+        @PageableQuery(defaultPageSize = 20)
+        public List<String> offset(String continent, Pageable pageable) {
+            return List.of(continent);
+        }
+
+        @PageableQuery(mode = PagingMode.KEYSET)
+        public List<String> keyset(KeysetPageable pageable) {
+            return List.of();
+        }
+
+        // 어드바이스가 없는 같은 프록시 호출 (기준값)
+        public List<String> plain(String continent, Pageable pageable) {
+            return List.of(continent);
+        }
+    }
+
+    @Data
+    public static class PageRequest implements Pageable {
+        private Integer pageNum;
+        private Integer pageSize;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.worldpopulation.filter;
+
+import com.example.worldpopulation.mapper.RevokedTokenMapper;
+import com.example.worldpopulation.mapper.UserMapper;
+import com.example.worldpopulation.mapper.UserRevocationMapper;
+import com.example.worldpopulation.service.CustomUserDetailsService;
+import com.example.worldpopulation.store.TokenDenylist;
+import com.example.worldpopulation.store.UserRevocationRegistry;
+import com.example.worldpopulation.util.JwtUtil;
+import com.example.worldpopulation.util.JwtUtilBenchmark;
+import jakarta.servlet.ServletException;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터 한 번의 비용 (토큰 추출, 검증 캐시 조회, 폐기 확인, 인증 객체 생성)
+ * 권한 클레임이 있는 토큰이므로 사용자 조회(DB)는 일어나지 않습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = JwtUtilBenchmark.jwtUtil(10_000);
+
+        RevokedTokenMapper revokedTokenMapper = Mockito.mock(RevokedTokenMapper.class);
+        Mockito.when(revokedTokenMapper.findActive(Mockito.any())).thenReturn(List.of());
+
+        filter = new JwtAuthenticationFilter(
+                jwtUtil,
+                new CustomUserDetailsService(Mockito.mock(UserMapper.class), Duration.ofMinutes(5), 10_000),
+                new UserRevocationRegistry(Mockito.mock(UserRevocationMapper.class), 3_600_000L),
+                new TokenDenylist(revokedTokenMapper, 100_000));
+        token = jwtUtil.generateToken(User.withUsername("alice").password("x").roles("USER").build());
+    }
+
+    @Benchmark
+    public Object bearerToken() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/population/countries");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
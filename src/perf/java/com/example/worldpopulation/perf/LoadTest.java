@@ -0,0 +1,355 @@
+package com.example.worldpopulation.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.net.httpserver.HttpServer;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 부하 테스트
+ * 합성 데이터를 채운 H2 (MySQL 호환 모드) 위에 애플리케이션을 띄우고, /api/auth/login 으로 받은 토큰으로
+ * 대시보드/목록/검색/이력/뉴스 요청을 섞어 보냅니다. 뉴스 원천은 지연을 흉내 내는 로컬 서버로 대체합니다.
+ * 워밍업 이후 요청만 집계하여 엔드포인트별 처리량과 지연 백분위를 출력하고 JSON 으로 저장합니다.
+ *
+ * mvn -Pperf -DskipTests test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.example.worldpopulation.perf.LoadTest
+ *     -Dexec.args="--countries=2000 --years=60 --concurrency=64 --duration=60s"
+ */
+public class LoadTest {
+
+    private static final String USERNAME = "loadtest";
+    private static final String PASSWORD = "loadtest-password";
+    private static final long MAX_LATENCY_MICROS = Duration.ofMinutes(1).toNanos() / 1_000;
+
+    private final Options options;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String baseUrl;
+    private String token;
+    private List<String> codes;
+    private List<String> names;
+
+    LoadTest(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest(Options.parse(args)).run();
+    }
+
+    void run() throws Exception {
+        HttpServer newsStub = startNewsStub(options.newsLatency);
+        ConfigurableApplicationContext context = PerfDatabase.start(options.countries, options.years,
+                "--server.port=0",
+                "--news.api.key=load-test",
+                "--news.api.base-url=http://127.0.0.1:" + newsStub.getAddress().getPort(),
+                "--news.prefetch.enabled=false");
+        try {
+            baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            codes = jdbc.queryForList("SELECT country_code FROM country_population ORDER BY population DESC", String.class);
+            names = jdbc.queryForList("SELECT country_name FROM country_population ORDER BY population DESC", String.class);
+
+            register();
+            token = login();
+
+            Map<String, Result> results = drive(scenarios());
+            report(results);
+        } finally {
+            context.close();
+            newsStub.stop(0);
+        }
+    }
+
+    /**
+     * 요청 구성 (이름, 가중치, 요청 생성)
+     * 국가는 인구 순위에 치우친 분포로 골라 인기 국가에 요청이 몰리도록 합니다.
+     */
+    private List<Scenario> scenarios() {
+        int pages = Math.max(1, Math.min(50, options.countries / 20));
+        return List.of(
+                new Scenario("GET /api/dashboard", 10, random -> get("/api/dashboard")),
+                new Scenario("GET /api/population/countries", 15, random ->
+                        get("/api/population/countries?page=" + (1 + random.nextInt(pages)) + "&size=20")),
+                new Scenario("GET /api/population/countries/{code}", 10, random ->
+                        get("/api/population/countries/" + codes.get(skewed(random)))),
+                new Scenario("GET /api/countries/search", 15, random ->
+                        get("/api/countries/search?keyword=" + SyntheticDataGenerator.syllable(random)
+                                + SyntheticDataGenerator.syllable(random).charAt(0))),
+                new Scenario("GET /api/countries/suggest", 10, random ->
+                        get("/api/countries/suggest?prefix=" + SyntheticDataGenerator.syllable(random) + "&limit=10")),
+                new Scenario("GET /api/population/history/{code}", 15, random ->
+                        get("/api/population/history/" + codes.get(skewed(random)))),
+                new Scenario("GET /api/population/history?codes", 5, random ->
+                        get("/api/population/history?maxPoints=100&codes=" + codes.get(skewed(random))
+                                + "," + codes.get(skewed(random)) + "," + codes.get(skewed(random)))),
+                new Scenario("GET /api/news/country/{name}", 18, random ->
+                        get("/api/news/country/" + URLEncoder.encode(names.get(skewed(random)), StandardCharsets.UTF_8)
+                                .replace("+", "%20"))),
+                new Scenario("POST /api/auth/login", 2, random -> loginRequest()));
+    }
+
+    private Map<String, Result> drive(List<Scenario> scenarios) throws InterruptedException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        scenarios.forEach(scenario -> results.put(scenario.name(), new Result()));
+        int totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup.toNanos();
+        long end = measureFrom + options.duration.toNanos();
+        System.out.printf("부하 시작 - 동시 사용자 %d, 워밍업 %ds, 측정 %ds%n",
+                options.concurrency, options.warmup.toSeconds(), options.duration.toSeconds());
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < options.concurrency; w++) {
+                workers.submit(() -> {
+                    Random random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < end) {
+                        Scenario scenario = pick(scenarios, random.nextInt(totalWeight));
+                        HttpRequest request = scenario.request().apply(random);
+                        long sent = System.nanoTime();
+                        boolean ok;
+                        try {
+                            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                            ok = response.statusCode() / 100 == 2;
+                        } catch (IOException e) {
+                            ok = false;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        long received = System.nanoTime();
+                        if (sent >= measureFrom) {
+                            results.get(scenario.name()).record((received - sent) / 1_000, ok);
+                        }
+                    }
+                });
+            }
+        }
+        return results;
+    }
+
+    private void report(Map<String, Result> results) throws IOException {
+        double seconds = options.duration.toNanos() / 1e9;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        Result total = new Result();
+
+        System.out.printf("%n%-40s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        for (Map.Entry<String, Result> entry : results.entrySet()) {
+            Result result = entry.getValue();
+            total.add(result);
+            endpoints.put(entry.getKey(), result.summary(seconds));
+            print(entry.getKey(), result, seconds);
+        }
+        print("total", total, seconds);
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("countries", options.countries);
+        json.put("years", options.years);
+        json.put("concurrency", options.concurrency);
+        json.put("durationSeconds", options.duration.toSeconds());
+        json.put("newsLatencyMillis", options.newsLatency.toMillis());
+        json.put("total", total.summary(seconds));
+        json.put("endpoints", endpoints);
+        Files.createDirectories(options.out.toAbsolutePath().getParent());
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(options.out.toFile(), json);
+        System.out.println("\n결과 저장 - " + options.out.toAbsolutePath());
+    }
+
+    private static void print(String name, Result result, double seconds) {
+        Histogram h = result.latency;
+        System.out.printf("%-40s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, h.getTotalCount(), result.errors.get(), h.getTotalCount() / seconds,
+                h.getValueAtPercentile(50) / 1000.0, h.getValueAtPercentile(90) / 1000.0,
+                h.getValueAtPercentile(99) / 1000.0, h.getValueAtPercentile(99.9) / 1000.0, h.getMaxValue() / 1000.0);
+    }
+
+    // ===== 요청 =====
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofSeconds(30))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest loginRequest() {
+        return post("/api/auth/login", Map.of("username", USERNAME, "password", PASSWORD));
+    }
+
+    private void register() throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(post("/api/auth/register", Map.of(
+                "username", USERNAME,
+                "password", PASSWORD,
+                "email", USERNAME + "@example.com",
+                "fullName", "Load Test")), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("사용자 등록 실패 - " + response.statusCode() + ": " + response.body());
+        }
+    }
+
+    private String login() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(loginRequest(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("로그인 실패 - " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body()).path("token").asText();
+    }
+
+    /**
+     * 인구 순위 쪽으로 치우친 색인 (상위 10% 국가가 요청의 약 절반)
+     */
+    private int skewed(Random random) {
+        return (int) (codes.size() * Math.pow(random.nextDouble(), 3));
+    }
+
+    private static Scenario pick(List<Scenario> scenarios, int ticket) {
+        for (Scenario scenario : scenarios) {
+            ticket -= scenario.weight();
+            if (ticket < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    /**
+     * newsapi.org 대역 (고정 응답, 지정 지연)
+     */
+    private static HttpServer startNewsStub(Duration latency) throws IOException {
+        byte[] body = """
+                {"status":"ok","articles":[{"title":"Synthetic headline","description":"Load test article",
+                "url":"https://example.com/news","urlToImage":null,"source":{"name":"Stub"},
+                "publishedAt":"2024-01-01T00:00:00Z"}]}
+                """.getBytes(StandardCharsets.UTF_8);
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/v2/everything", exchange -> {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private record Scenario(String name, int weight, Function<Random, HttpRequest> request) {
+    }
+
+    private static final class Result {
+        private final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        private final AtomicLong errors = new AtomicLong();
+
+        void record(long micros, boolean ok) {
+            latency.recordValue(Math.min(micros, MAX_LATENCY_MICROS));
+            if (!ok) {
+                errors.incrementAndGet();
+            }
+        }
+
+        void add(Result other) {
+            latency.add(other.latency);
+            errors.addAndGet(other.errors.get());
+        }
+
+        Map<String, Object> summary(double seconds) {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", latency.getTotalCount());
+            summary.put("errors", errors.get());
+            summary.put("throughput", latency.getTotalCount() / seconds);
+            summary.put("p50Millis", latency.getValueAtPercentile(50) / 1000.0);
+            summary.put("p90Millis", latency.getValueAtPercentile(90) / 1000.0);
+            summary.put("p99Millis", latency.getValueAtPercentile(99) / 1000.0);
+            summary.put("p999Millis", latency.getValueAtPercentile(99.9) / 1000.0);
+            summary.put("maxMillis", latency.getMaxValue() / 1000.0);
+            return summary;
+        }
+    }
+
+    /**
+     * 명령행 옵션 (--name=value)
+     */
+    record Options(int countries, int years, int concurrency, Duration warmup, Duration duration,
+                   Duration newsLatency, Path out) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new LinkedHashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("옵션 형식은 --name=value 입니다: " + arg);
+                }
+                values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+            Options options = new Options(
+                    Integer.parseInt(values.getOrDefault("countries", "2000")),
+                    Integer.parseInt(values.getOrDefault("years", "60")),
+                    Integer.parseInt(values.getOrDefault("concurrency", "32")),
+                    seconds(values.getOrDefault("warmup", "10")),
+                    seconds(values.getOrDefault("duration", "30")),
+                    Duration.ofMillis(Long.parseLong(values.getOrDefault("news-latency", "80").replace("ms", ""))),
+                    Path.of(values.getOrDefault("out", "target/load-test-result.json")));
+            List<String> unknown = new ArrayList<>(values.keySet());
+            unknown.removeAll(List.of("countries", "years", "concurrency", "warmup", "duration", "news-latency", "out"));
+            if (!unknown.isEmpty()) {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + unknown);
+            }
+            return options;
+        }
+
+        private static Duration seconds(String value) {
+            return Duration.ofSeconds(Long.parseLong(value.replace("s", "")));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.worldpopulation.perf;
+
+import com.example.worldpopulation.model.CountryPopulation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.pagehelper.Page;
+import com.github.pagehelper.PageInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 국가 목록 페이지 응답(PageInfo) JSON 직렬화 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageInfoJsonBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PageInfo<CountryPopulation> pageInfo;
+
+    @Setup
+    public void setUp() {
+        // Spring MVC 가 쓰는 것과 같은 기본 설정
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Page<CountryPopulation> page = new Page<>(2, pageSize);
+        page.setTotal(5_000);
+        for (int i = 0; i < pageSize; i++) {
+            page.add(CountryPopulation.builder()
+                    .id((long) i)
+                    .countryCode(SyntheticDataGenerator.code(i))
+                    .countryName("Country " + i)
+                    .continent("Asia")
+                    .population(1_000_000L * (i + 1))
+                    .areaSqKm(new BigDecimal("100000.00"))
+                    .populationDensity(new BigDecimal("123.45"))
+                    .gdpPerCapita(new BigDecimal("31000.00"))
+                    .lifeExpectancy(new BigDecimal("80.10"))
+                    .year(2024)
+                    .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                    .updatedAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                    .build());
+        }
+        pageInfo = new PageInfo<>(page);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pageInfo);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.worldpopulation.perf;
+
+import com.example.worldpopulation.WorldpopulationApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 성능 측정용 애플리케이션 기동 (H2 MySQL 호환 모드, 인메모리)
+ * 매 기동마다 새 데이터베이스를 만들고 스키마와 합성 데이터를 채웁니다.
+ */
+public final class PerfDatabase {
+
+    private PerfDatabase() {
+    }
+
+    /**
+     * @param countries 생성할 국가 수
+     * @param years 국가별 이력 연도 수
+     * @param args 추가 설정 (예: --spring.main.web-application-type=none)
+     */
+    public static ConfigurableApplicationContext start(int countries, int years, String... args) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:perf-" + UUID.randomUUID()
+                        + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=YEAR,VALUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.sql.init.mode=always",
+                "--spring.sql.init.schema-locations=classpath:perf/schema.sql",
+                "--pagehelper.helper-dialect=h2",
+                "--pagehelper.auto-runtime-dialect=false",
+                "--mybatis.configuration-properties.exportFetchSize=1000",
+                "--decorator.datasource.enabled=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.worldpopulation=WARN"));
+        arguments.addAll(Arrays.asList(args));
+
+        ConfigurableApplicationContext context = SpringApplication.run(WorldpopulationApplication.class,
+                arguments.toArray(new String[0]));
+        int thisYear = Year.now().getValue();
+        new SyntheticDataGenerator(42).generate(countries, thisYear - years + 1, thisYear,
+                SyntheticDataGenerator.Sink.jdbc(context.getBean(JdbcTemplate.class)));
+        return context;
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.worldpopulation.perf;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 성능 측정용 합성 데이터 생성
+ * 같은 seed 면 항상 같은 데이터를 만들며, 국가 수와 이력 연도 범위로 규모를 조절합니다.
+ * 인구는 실제 분포처럼 소수 대국과 다수 소국이 되도록 로그 정규 분포를 따릅니다.
+ *
+ * 파일로 생성 (대량 적재 API 또는 app.import.*-file 로 MySQL 에 적재):
+ * mvn -Pperf -DskipTests test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.example.worldpopulation.perf.SyntheticDataGenerator
+ *     -Dexec.args="--countries=5000 --years=70 --out=target/synthetic"
+ */
+public class SyntheticDataGenerator {
+
+    private static final String[] CONTINENTS = {"Asia", "Africa", "Europe", "North America", "South America", "Oceania"};
+    private static final String[] SYLLABLES = {
+            "ka", "ra", "to", "mi", "na", "lo", "sa", "be", "ri", "do", "an", "el", "or", "us", "ia", "ve",
+            "zu", "ti", "mo", "qu", "ha", "ne", "li", "po", "gu", "ar", "en", "is", "ul", "ya"
+    };
+    private static final String[] SUFFIXES = {"", "", "", "", " Republic", " Islands", " Federation", " Kingdom"};
+
+    private final long seed;
+
+    public SyntheticDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * 국가와 연도별 이력 생성
+     * @param countries 국가(지역) 수
+     * @param fromYear 이력 시작 연도
+     * @param toYear 이력 종료 연도 (국가 현재 인구의 기준 연도)
+     * @param sink 생성된 행을 받을 대상 (끝나면 닫힘)
+     */
+    public void generate(int countries, int fromYear, int toYear, Sink sink) {
+        Random random = new Random(seed);
+        try (sink) {
+            for (int i = 0; i < countries; i++) {
+                String code = code(i);
+                long population = Math.max(1_000, (long) Math.exp(15 + 1.8 * random.nextGaussian()));
+                double area = Math.max(10, Math.exp(11 + 2 * random.nextGaussian()));
+                sink.country(new Object[]{
+                        code,
+                        name(random, i),
+                        CONTINENTS[random.nextInt(CONTINENTS.length)],
+                        population,
+                        round(area),
+                        round(population / area),
+                        round(Math.exp(9 + random.nextGaussian())),
+                        round(55 + random.nextDouble() * 30),
+                        toYear
+                });
+
+                // 현재 인구에서 거꾸로 연간 증가율을 적용하여 과거 인구 추정
+                double trend = 0.5 + random.nextDouble() * 2;
+                double value = population;
+                for (int year = toYear; year >= fromYear; year--) {
+                    double growth = trend + random.nextGaussian() * 0.3;
+                    sink.history(new Object[]{code, year, (long) value, round(growth)});
+                    value = value / (1 + growth / 100);
+                }
+            }
+        }
+    }
+
+    /**
+     * i 번째 국가 코드 (AAA, AAB, ... 이후 X00000 형식)
+     */
+    public static String code(int i) {
+        if (i < 26 * 26 * 26) {
+            return "" + (char) ('A' + i / 676) + (char) ('A' + i / 26 % 26) + (char) ('A' + i % 26);
+        }
+        return String.format("X%05d", i);
+    }
+
+    /**
+     * 검색/자동완성 요청에 쓸 만한 이름 조각 (생성 이름은 이 음절들의 조합)
+     */
+    public static String syllable(Random random) {
+        return SYLLABLES[random.nextInt(SYLLABLES.length)];
+    }
+
+    private static String name(Random random, int i) {
+        StringBuilder name = new StringBuilder();
+        int syllables = 2 + random.nextInt(3);
+        for (int s = 0; s < syllables; s++) {
+            name.append(syllable(random));
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        // 같은 이름이 나와도 구분되도록 번호를 덧붙임
+        return name + SUFFIXES[random.nextInt(SUFFIXES.length)] + " " + (i + 1);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int countries = 5_000;
+        int years = 70;
+        long seed = 42;
+        Path out = Path.of("target/synthetic");
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--countries=")) {
+                countries = Integer.parseInt(value);
+            } else if (arg.startsWith("--years=")) {
+                years = Integer.parseInt(value);
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(value);
+            } else if (arg.startsWith("--out=")) {
+                out = Path.of(value);
+            } else {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+            }
+        }
+        int thisYear = Year.now().getValue();
+        new SyntheticDataGenerator(seed).generate(countries, thisYear - years + 1, thisYear, Sink.csv(out));
+        System.out.printf("%d 개국, %d 년 이력 생성 - %s%n", countries, years, out.toAbsolutePath());
+    }
+
+    /**
+     * 생성된 행을 받는 대상
+     * 국가 행: country_code, country_name, continent, population, area_sq_km, population_density,
+     * gdp_per_capita, life_expectancy, year / 이력 행: country_code, year, population, growth_rate
+     */
+    public interface Sink extends AutoCloseable {
+
+        void country(Object[] row);
+
+        void history(Object[] row);
+
+        @Override
+        void close();
+
+        /**
+         * JDBC 배치 INSERT
+         */
+        static Sink jdbc(JdbcTemplate jdbc) {
+            return new JdbcSink(jdbc);
+        }
+
+        /**
+         * 대량 적재 API 형식의 gzip CSV 파일 (countries.csv.gz, history.csv.gz)
+         */
+        static Sink csv(Path directory) throws IOException {
+            Files.createDirectories(directory);
+            return new CsvSink(directory);
+        }
+    }
+
+    private static final class JdbcSink implements Sink {
+
+        private static final int BATCH_SIZE = 1000;
+        private static final String COUNTRY_SQL = """
+                INSERT INTO country_population (country_code, country_name, continent, population, area_sq_km,
+                    population_density, gdp_per_capita, life_expectancy, year)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+        private static final String HISTORY_SQL = """
+                INSERT INTO population_history (country_code, year, population, growth_rate)
+                VALUES (?, ?, ?, ?)""";
+
+        private final JdbcTemplate jdbc;
+        private final List<Object[]> countries = new ArrayList<>(BATCH_SIZE);
+        private final List<Object[]> history = new ArrayList<>(BATCH_SIZE);
+
+        JdbcSink(JdbcTemplate jdbc) {
+            this.jdbc = jdbc;
+        }
+
+        @Override
+        public void country(Object[] row) {
+            countries.add(row);
+            if (countries.size() >= BATCH_SIZE) {
+                flush(countries, COUNTRY_SQL);
+            }
+        }
+
+        @Override
+        public void history(Object[] row) {
+            history.add(row);
+            if (history.size() >= BATCH_SIZE) {
+                flush(history, HISTORY_SQL);
+            }
+        }
+
+        @Override
+        public void close() {
+            flush(countries, COUNTRY_SQL);
+            flush(history, HISTORY_SQL);
+        }
+
+        private void flush(List<Object[]> rows, String sql) {
+            if (!rows.isEmpty()) {
+                jdbc.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+
+    private static final class CsvSink implements Sink {
+
+        private final BufferedWriter countries;
+        private final BufferedWriter history;
+
+        CsvSink(Path directory) throws IOException {
+            this.countries = writer(directory.resolve("countries.csv.gz"),
+                    "country_code,country_name,continent,population,area_sq_km,population_density,gdp_per_capita,life_expectancy,year");
+            this.history = writer(directory.resolve("history.csv.gz"), "country_code,year,population,growth_rate");
+        }
+
+        @Override
+        public void country(Object[] row) {
+            write(countries, row);
+        }
+
+        @Override
+        public void history(Object[] row) {
+            write(history, row);
+        }
+
+        @Override
+        public void close() {
+            try (countries; history) {
+                // 두 파일 모두 닫힘
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static BufferedWriter writer(Path path, String header) throws IOException {
+            OutputStream out = new GZIPOutputStream(Files.newOutputStream(path), 64 * 1024);
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            writer.write(header);
+            writer.newLine();
+            return writer;
+        }
+
+        private static void write(BufferedWriter writer, Object[] row) {
+            try {
+                for (int i = 0; i < row.length; i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    // 생성 값에는 쉼표와 따옴표가 없으므로 그대로 기록
+                    writer.write(String.valueOf(row[i]));
+                }
+                writer.newLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
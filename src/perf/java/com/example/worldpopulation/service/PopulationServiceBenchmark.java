@@ -0,0 +1,91 @@
+package com.example.worldpopulation.service;
+
+import com.example.worldpopulation.perf.PerfDatabase;
+import com.example.worldpopulation.perf.SyntheticDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PopulationService 조회 경로 (H2 인메모리 DB 위에서 전체 애플리케이션 기동)
+ * 스냅샷/이력 저장소는 첫 호출에 적재되므로 워밍업 이후에는 메모리 조회 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PopulationServiceBenchmark {
+
+    @Param({"250", "5000"})
+    private int countries;
+
+    private ConfigurableApplicationContext context;
+    private PopulationService populationService;
+
+    @Setup
+    public void setUp() {
+        context = PerfDatabase.start(countries, 60, "--spring.main.web-application-type=none");
+        populationService = context.getBean(PopulationService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object allCountriesPage() {
+        return populationService.getAllCountries(3, 20);
+    }
+
+    @Benchmark
+    public Object searchCountries() {
+        return populationService.searchCountries("kar");
+    }
+
+    @Benchmark
+    public Object suggestCountries() {
+        return populationService.suggestCountries("ka", 10);
+    }
+
+    @Benchmark
+    public Object topCountries() {
+        return populationService.getTopCountries(10);
+    }
+
+    @Benchmark
+    public Object continentStatistics() {
+        return populationService.getContinentStatistics();
+    }
+
+    @Benchmark
+    public Object populationHistory() {
+        return populationService.getPopulationHistory(randomCode());
+    }
+
+    @Benchmark
+    public Object populationHistories() {
+        return populationService.getPopulationHistories(
+                List.of(randomCode(), randomCode(), randomCode()), null, null, 50);
+    }
+
+    private String randomCode() {
+        return SyntheticDataGenerator.code(ThreadLocalRandom.current().nextInt(countries));
+    }
+}
@@ -0,0 +1,49 @@
+-- 성능 측정용 H2 (MySQL 호환 모드) 스키마
+CREATE TABLE IF NOT EXISTS users (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    username   VARCHAR(50)  NOT NULL UNIQUE,
+    password   VARCHAR(255) NOT NULL,
+    email      VARCHAR(100) NOT NULL UNIQUE,
+    full_name  VARCHAR(100),
+    role       VARCHAR(20)  NOT NULL DEFAULT 'USER',
+    enabled    BOOLEAN      NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP    DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP    DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS country_population (
+    id                 BIGINT AUTO_INCREMENT PRIMARY KEY,
+    country_code       VARCHAR(10)  NOT NULL UNIQUE,
+    country_name       VARCHAR(100) NOT NULL,
+    continent          VARCHAR(50),
+    population         BIGINT,
+    area_sq_km         DECIMAL(15, 2),
+    population_density DECIMAL(10, 2),
+    gdp_per_capita     DECIMAL(12, 2),
+    life_expectancy    DECIMAL(5, 2),
+    year               INT,
+    created_at         TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at         TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS population_history (
+    id           BIGINT AUTO_INCREMENT PRIMARY KEY,
+    country_code VARCHAR(10) NOT NULL,
+    year         INT         NOT NULL,
+    population   BIGINT,
+    growth_rate  DECIMAL(6, 3),
+    created_at   TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_history_country_year UNIQUE (country_code, year)
+);
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    jti        VARCHAR(36) PRIMARY KEY,
+    expires_at TIMESTAMP   NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
+
+CREATE TABLE IF NOT EXISTS user_revocations (
+    username   VARCHAR(50) PRIMARY KEY,
+    revoked_at TIMESTAMP   NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_user_revocations_revoked_at ON user_revocations (revoked_at);
@@ -0,0 +1,103 @@
+package com.example.worldpopulation.config.aop;
+
+import com.example.worldpopulation.config.annotation.PageableQuery;
+import com.example.worldpopulation.dto.PageRequest;
+import com.example.worldpopulation.store.PageCountCache;
+import com.example.worldpopulation.store.TableVersions;
+import com.github.pagehelper.Page;
+import com.github.pagehelper.PageHelper;
+import com.github.pagehelper.PageInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageHelperAspectTest {
+
+    private final TableVersions tableVersions = new TableVersions();
+    private Users proxy;
+    private Users target;
+
+    @BeforeEach
+    void setUp() {
+        target = new Users();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new PageHelperAspect(new PageCountCache(tableVersions, Duration.ofMinutes(10), 100)));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    void skipsCountUntilTableChanges() {
+        PageInfo<Integer> first = proxy.page("ADMIN", new PageRequest(1, 10));
+        PageInfo<Integer> second = proxy.page("ADMIN", new PageRequest(3, 10));
+
+        assertThat(target.counts).isEqualTo(1);
+        assertThat(second.getTotal()).isEqualTo(42);
+        assertThat(second.getPages()).isEqualTo(5);
+        assertThat(second.getPageNum()).isEqualTo(3);
+        assertThat(second.getTotal()).isEqualTo(first.getTotal());
+
+        proxy.page("USER", new PageRequest(1, 10));
+        assertThat(target.counts).isEqualTo(2);
+
+        tableVersions.bump("USERS");
+        proxy.page("ADMIN", new PageRequest(2, 10));
+        assertThat(target.counts).isEqualTo(3);
+    }
+
+    @Test
+    void clampsPageNumberOnCachedTotal() {
+        proxy.page("ADMIN", new PageRequest(1, 10));
+
+        PageInfo<Integer> beyond = proxy.page("ADMIN", new PageRequest(99, 10));
+
+        assertThat(target.counts).isEqualTo(1);
+        assertThat(beyond.getPageNum()).isEqualTo(5);
+        assertThat(beyond.getSize()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotCacheTotalOfPageInfoOverCopiedList() {
+        PageInfo<Integer> first = proxy.copied("ADMIN", new PageRequest(1, 10));
+        PageInfo<Integer> second = proxy.copied("ADMIN", new PageRequest(1, 10));
+
+        // 복사본 PageInfo 의 total 은 목록 크기이므로 캐시하지 않고 매번 COUNT
+        assertThat(first.getTotal()).isEqualTo(10);
+        assertThat(second.getTotal()).isEqualTo(10);
+        assertThat(target.counts).isEqualTo(2);
+    }
+
+    /**
+     * PageHelper 인터셉터 흉내 (COUNT 는 건수만 세고, 본 쿼리는 현재 페이지 행을 채움)
+     */
+    static class Users {
+        static final int TOTAL = 42;
+        int counts;
+
+        @PageableQuery(cacheCount = true, tables = "users")
+        public PageInfo<Integer> page(String role, PageRequest pageRequest) {
+            Page<Integer> page = PageHelper.getLocalPage();
+            PageHelper.clearPage();
+            if (page.isCount()) {
+                counts++;
+                page.setTotal(TOTAL);
+            } else {
+                page.setTotal(-1);
+            }
+            for (long row = page.getStartRow(); row < Math.min(page.getEndRow(), TOTAL); row++) {
+                page.add((int) row);
+            }
+            return new PageInfo<>(page);
+        }
+
+        @PageableQuery(cacheCount = true, tables = "users")
+        public PageInfo<Integer> copied(String role, PageRequest pageRequest) {
+            return new PageInfo<>(new ArrayList<>(page(role, pageRequest).getList()));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.worldpopulation.controller;
+
+import com.example.worldpopulation.dto.DashboardSummary;
+import com.example.worldpopulation.service.DashboardService;
+import com.example.worldpopulation.store.DataVersion;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DashboardApiControllerTest {
+
+    private final DashboardService dashboardService = mock(DashboardService.class);
+    private final DataVersion dataVersion = new DataVersion();
+    private final DashboardApiController controller = new DashboardApiController(dashboardService, dataVersion);
+
+    @Test
+    void partialSummaryIsNotTaggedOrRevalidated() {
+        when(dashboardService.getSummary(1, 10)).thenReturn(
+                DashboardSummary.builder().failures(List.of("topCountries")).build());
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/dashboard");
+        request.addHeader("If-None-Match", dataVersion.current().etag());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ResponseEntity<DashboardSummary> result = controller.getSummary(1, 10, request, response);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getStatusCode().value()).isEqualTo(200);
+        assertThat(result.getHeaders().getETag()).isNull();
+        assertThat(result.getHeaders().getCacheControl()).isEqualTo("no-store");
+        assertThat(response.getHeader("ETag")).isNull();
+    }
+
+    @Test
+    void completeSummaryIsRevalidatedByDataVersion() {
+        when(dashboardService.getSummary(1, 10)).thenReturn(
+                DashboardSummary.builder().failures(List.of()).build());
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        assertThat(controller.getSummary(1, 10, new MockHttpServletRequest("GET", "/api/dashboard"), first)).isNotNull();
+        String etag = first.getHeader("ETag");
+        assertThat(etag).isNotNull();
+
+        MockHttpServletRequest revalidate = new MockHttpServletRequest("GET", "/api/dashboard");
+        revalidate.addHeader("If-None-Match", etag);
+        MockHttpServletResponse notModified = new MockHttpServletResponse();
+        assertThat(controller.getSummary(1, 10, revalidate, notModified)).isNull();
+        assertThat(notModified.getStatus()).isEqualTo(304);
+    }
+}
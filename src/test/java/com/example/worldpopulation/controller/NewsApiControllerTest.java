@@ -0,0 +1,39 @@
+package com.example.worldpopulation.controller;
+
+import com.example.worldpopulation.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest(properties = "news.api.key=")
+@AutoConfigureMockMvc
+class NewsApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void asyncDispatchOfAuthorizedRequestIsNotDenied() throws Exception {
+        String token = jwtUtil.generateToken(User.withUsername("alice").password("x").roles("USER").build());
+
+        MvcResult started = mockMvc.perform(get("/api/news/country/Korea")
+                        .header("Authorization", "Bearer " + token))
+                .andReturn();
+        assertThat(started.getRequest().isAsyncStarted()).isTrue();
+
+        MvcResult dispatched = mockMvc.perform(asyncDispatch(started)).andReturn();
+        assertThat(dispatched.getResponse().getStatus()).isEqualTo(200);
+        assertThat(dispatched.getResponse().getContentAsString()).contains("Korea");
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.worldpopulation.filter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheFilterTest {
+
+    @Test
+    void acceptsGzipHonoursQualityValues() {
+        assertThat(ResponseCacheFilter.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(ResponseCacheFilter.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(ResponseCacheFilter.acceptsGzip("*")).isTrue();
+
+        assertThat(ResponseCacheFilter.acceptsGzip(null)).isFalse();
+        assertThat(ResponseCacheFilter.acceptsGzip("identity")).isFalse();
+        assertThat(ResponseCacheFilter.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(ResponseCacheFilter.acceptsGzip("br, gzip; q=0.0")).isFalse();
+        assertThat(ResponseCacheFilter.acceptsGzip("*;q=1, gzip;q=0")).isFalse();
+        assertThat(ResponseCacheFilter.acceptsGzip("br, *;q=0")).isFalse();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.worldpopulation.interceptor;
+
+import com.example.worldpopulation.store.DataVersion;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalGetInterceptorTest {
+
+    private final DataVersion dataVersion = new DataVersion();
+    private final ConditionalGetInterceptor interceptor = new ConditionalGetInterceptor(dataVersion);
+
+    @Test
+    void returnsNotModifiedUntilDataVersionChanges() {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(new MockHttpServletRequest("GET", "/api/stats"), first, null)).isTrue();
+        String etag = first.getHeader("ETag");
+
+        MockHttpServletRequest revalidate = new MockHttpServletRequest("GET", "/api/stats");
+        revalidate.addHeader("If-None-Match", etag);
+        MockHttpServletResponse notModified = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(revalidate, notModified, null)).isFalse();
+        assertThat(notModified.getStatus()).isEqualTo(304);
+
+        dataVersion.bump();
+
+        MockHttpServletRequest afterWrite = new MockHttpServletRequest("GET", "/api/stats");
+        afterWrite.addHeader("If-None-Match", etag);
+        MockHttpServletResponse changed = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(afterWrite, changed, null)).isTrue();
+        assertThat(changed.getStatus()).isEqualTo(200);
+        assertThat(changed.getHeader("ETag")).isNotEqualTo(etag);
+    }
+}
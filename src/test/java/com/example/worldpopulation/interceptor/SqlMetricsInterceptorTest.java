@@ -0,0 +1,102 @@
+package com.example.worldpopulation.interceptor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SqlMetricsInterceptorTest {
+
+    private final Configuration configuration = new Configuration();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SqlMetricsInterceptor interceptor = new SqlMetricsInterceptor(registry);
+    private final Executor executor = mock(Executor.class);
+
+    @Test
+    void recordsTimerAndRowsPerStatement() throws Throwable {
+        MappedStatement select = statement("com.example.worldpopulation.mapper.UserMapper.findAll", SqlCommandType.SELECT);
+        when(executor.query(any(), any(), any(), any())).thenReturn(List.of("a", "b", "c"));
+
+        interceptor.intercept(query(select));
+        interceptor.intercept(query(select));
+
+        assertThat(registry.get("mybatis.statement")
+                .tags("statement", "UserMapper.findAll", "command", "select", "outcome", "success")
+                .timer().count()).isEqualTo(2);
+        assertThat(registry.get("mybatis.statement.rows")
+                .tags("statement", "UserMapper.findAll", "command", "select")
+                .summary().totalAmount()).isEqualTo(6);
+    }
+
+    @Test
+    void recordsUpdateRowsButSkipsBatchPlaceholder() throws Throwable {
+        MappedStatement update = statement("com.example.worldpopulation.mapper.UserMapper.update", SqlCommandType.UPDATE);
+        when(executor.update(any(), any())).thenReturn(1, Integer.MIN_VALUE + 1002);
+
+        interceptor.intercept(update(update));
+        interceptor.intercept(update(update));
+
+        assertThat(registry.get("mybatis.statement")
+                .tags("statement", "UserMapper.update", "command", "update", "outcome", "success")
+                .timer().count()).isEqualTo(2);
+        assertThat(registry.get("mybatis.statement.rows")
+                .tags("statement", "UserMapper.update", "command", "update")
+                .summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsErrorsSeparately() throws Exception {
+        MappedStatement select = statement("com.example.worldpopulation.mapper.UserMapper.findById", SqlCommandType.SELECT);
+        when(executor.query(any(), any(), any(), any())).thenThrow(new SQLException("boom"));
+
+        assertThatThrownBy(() -> interceptor.intercept(query(select))).hasRootCauseInstanceOf(SQLException.class);
+
+        assertThat(registry.get("mybatis.statement.errors")
+                .tags("statement", "UserMapper.findById", "command", "select")
+                .counter().count()).isEqualTo(1);
+        assertThat(registry.get("mybatis.statement")
+                .tags("statement", "UserMapper.findById", "outcome", "error")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.find("mybatis.statement")
+                .tags("statement", "UserMapper.findById", "outcome", "success")
+                .timer().count()).isZero();
+    }
+
+    @Test
+    void shortIdDropsPackage() {
+        assertThat(SqlMetricsInterceptor.shortId("com.example.worldpopulation.mapper.UserMapper.findByUsername"))
+                .isEqualTo("UserMapper.findByUsername");
+        assertThat(SqlMetricsInterceptor.shortId("findAll")).isEqualTo("findAll");
+    }
+
+    private MappedStatement statement(String id, SqlCommandType type) {
+        return new MappedStatement.Builder(configuration, id, new StaticSqlSource(configuration, "SELECT 1"), type).build();
+    }
+
+    private Invocation query(MappedStatement ms) throws NoSuchMethodException {
+        Method method = Executor.class.getMethod("query",
+                MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class);
+        return new Invocation(executor, method, new Object[]{ms, null, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER});
+    }
+
+    private Invocation update(MappedStatement ms) throws NoSuchMethodException {
+        Method method = Executor.class.getMethod("update", MappedStatement.class, Object.class);
+        return new Invocation(executor, method, new Object[]{ms, null});
+    }
+}
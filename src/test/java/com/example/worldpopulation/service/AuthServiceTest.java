@@ -0,0 +1,74 @@
+package com.example.worldpopulation.service;
+
+import com.example.worldpopulation.dto.AuthRequest;
+import com.example.worldpopulation.mapper.UserMapper;
+import com.example.worldpopulation.model.User;
+import com.example.worldpopulation.store.TokenDenylist;
+import com.example.worldpopulation.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthServiceTest {
+
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(5);
+    private final UserMapper userMapper = mock(UserMapper.class);
+    private final JwtUtil jwtUtil = mock(JwtUtil.class);
+    private final CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
+    private final PasswordHashingService passwordHashing =
+            new PasswordHashingService(encoder, 1, 4, Duration.ofSeconds(5), new SimpleMeterRegistry());
+    private final AuthService authService = new AuthService(userMapper, passwordHashing, jwtUtil,
+            userDetailsService, mock(TokenDenylist.class), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        passwordHashing.shutdown();
+    }
+
+    @Test
+    void loginRehashesPasswordStoredWithWeakerStrength() {
+        when(userMapper.findByUsername("alice")).thenReturn(Optional.of(user(new BCryptPasswordEncoder(4).encode("secret"))));
+        when(jwtUtil.generateToken(any())).thenReturn("token");
+
+        assertThat(authService.authenticate(request("secret")).getToken()).isEqualTo("token");
+
+        ArgumentCaptor<String> rehashed = ArgumentCaptor.forClass(String.class);
+        verify(userMapper).updatePassword(eq(1L), rehashed.capture());
+        assertThat(encoder.upgradeEncoding(rehashed.getValue())).isFalse();
+        assertThat(encoder.matches("secret", rehashed.getValue())).isTrue();
+        verify(userDetailsService).evict("alice");
+    }
+
+    @Test
+    void loginKeepsPasswordStoredWithCurrentStrength() {
+        when(userMapper.findByUsername("alice")).thenReturn(Optional.of(user(encoder.encode("secret"))));
+        when(jwtUtil.generateToken(any())).thenReturn("token");
+
+        authService.authenticate(request("secret"));
+
+        verify(userMapper, never()).updatePassword(anyLong(), anyString());
+    }
+
+    private static User user(String hash) {
+        return User.builder().id(1L).username("alice").password(hash).role("USER").enabled(true).build();
+    }
+
+    private static AuthRequest request(String password) {
+        return AuthRequest.builder().username("alice").password(password).build();
+    }
+}
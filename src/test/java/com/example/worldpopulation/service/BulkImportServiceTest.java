@@ -0,0 +1,173 @@
+package com.example.worldpopulation.service;
+
+import com.example.worldpopulation.dto.ImportResult;
+import com.example.worldpopulation.mapper.CountryPopulationMapper;
+import com.example.worldpopulation.mapper.PopulationHistoryMapper;
+import com.example.worldpopulation.model.CountryPopulation;
+import com.example.worldpopulation.model.PopulationHistory;
+import com.example.worldpopulation.store.CountrySnapshotStore;
+import com.example.worldpopulation.store.PopulationHistoryStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BulkImportServiceTest {
+
+    private final SqlSessionFactory sqlSessionFactory = mock(SqlSessionFactory.class, RETURNS_DEEP_STUBS);
+    private final CountryPopulationMapper countryMapper = mock(CountryPopulationMapper.class);
+    private final PopulationHistoryMapper historyMapper = mock(PopulationHistoryMapper.class);
+    private final CountrySnapshotStore snapshotStore = mock(CountrySnapshotStore.class);
+    private final PopulationHistoryStore historyStore = mock(PopulationHistoryStore.class);
+
+    private final List<CountryPopulation> countries = new ArrayList<>();
+    private final List<PopulationHistory> histories = new ArrayList<>();
+
+    private BulkImportService service;
+
+    @BeforeEach
+    void setUp() {
+        when(sqlSessionFactory.openSession(ExecutorType.BATCH)).thenReturn(mock(SqlSession.class));
+        when(sqlSessionFactory.getConfiguration().getMapper(eq(CountryPopulationMapper.class), any())).thenReturn(countryMapper);
+        when(sqlSessionFactory.getConfiguration().getMapper(eq(PopulationHistoryMapper.class), any())).thenReturn(historyMapper);
+        doAnswer(invocation -> {
+            CountryPopulation country = invocation.getArgument(0);
+            if ("ERR".equals(country.getCountryCode())) {
+                throw new IllegalStateException("Duplicate entry");
+            }
+            return countries.add(country);
+        }).when(countryMapper).upsert(any());
+        doAnswer(invocation -> histories.add(invocation.getArgument(0))).when(historyMapper).upsert(any());
+
+        service = new BulkImportService(sqlSessionFactory, mock(PlatformTransactionManager.class), new ObjectMapper(),
+                snapshotStore, historyStore, 2, 2, 10);
+    }
+
+    private static InputStream text(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void readsCsvWithNormalizedHeadersAndQuotedFields() throws IOException {
+        String csv = """
+                ﻿Country Code,country_name,Population,continent,gdpPerCapita
+                kor,"Korea, Republic of","51,700,000",Asia,34165.50
+                JPN,Japan,125000000,Asia,
+
+                DEU,Germany,84000000,Europe,48000
+                """;
+
+        ImportResult result = service.importCountries(text(csv), DataFormat.CSV);
+
+        assertThat(result.getRowsRead()).isEqualTo(3);
+        assertThat(result.getRowsImported()).isEqualTo(3);
+        assertThat(result.getRowsRejected()).isZero();
+        assertThat(countries).extracting(CountryPopulation::getCountryCode).containsExactly("KOR", "JPN", "DEU");
+        assertThat(countries.get(0).getCountryName()).isEqualTo("Korea, Republic of");
+        assertThat(countries.get(0).getPopulation()).isEqualTo(51_700_000L);
+        assertThat(countries.get(0).getGdpPerCapita()).isEqualTo(new BigDecimal("34165.50"));
+        assertThat(countries.get(1).getGdpPerCapita()).isNull();
+        verify(snapshotStore).refresh();
+    }
+
+    @Test
+    void rejectsInvalidRowsWithLineNumbers() throws IOException {
+        String csv = """
+                country_code,country_name,population
+                KOR,Korea,51700000
+                K0R,Typo,1
+                JPN,Japan,
+                CHN,China,-1
+                """;
+
+        ImportResult result = service.importCountries(text(csv), DataFormat.CSV);
+
+        assertThat(result.getRowsImported()).isEqualTo(1);
+        assertThat(result.getRowsRejected()).isEqualTo(3);
+        assertThat(result.getRejections()).extracting(ImportResult.Rejection::getLine).containsExactly(3L, 4L, 5L);
+        assertThat(result.getRejections().get(0).getReason()).contains("국가 코드");
+        assertThat(result.getRejections().get(1).getReason()).contains("population");
+    }
+
+    @Test
+    void rejectsWholeChunkWhenBatchWriteFails() throws IOException {
+        // 청크 크기 2: [KOR, ERR] 은 함께 실패, [JPN] 은 적재
+        String csv = """
+                country_code,country_name,population
+                KOR,Korea,51700000
+                ERR,Error,1
+                JPN,Japan,125000000
+                """;
+
+        ImportResult result = service.importCountries(text(csv), DataFormat.CSV);
+
+        assertThat(result.getRowsImported()).isEqualTo(1);
+        assertThat(result.getRowsRejected()).isEqualTo(2);
+        assertThat(result.getRejections()).singleElement()
+                .satisfies(rejection -> {
+                    assertThat(rejection.getLine()).isEqualTo(2L);
+                    assertThat(rejection.getReason()).contains("2행").contains("Duplicate entry");
+                });
+    }
+
+    @Test
+    void readsGzippedNdjsonHistory() throws IOException {
+        String ndjson = """
+                {"countryCode":"KOR","year":2020,"population":51800000,"growth_rate":0.1}
+                {"country_code":"KOR","year":2021,"population":51700000}
+                [1,2,3]
+                """;
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(ndjson.getBytes(StandardCharsets.UTF_8));
+        }
+
+        ImportResult result = service.importHistory(
+                new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray())),
+                DataFormat.ofFileName("history.ndjson.gz"));
+
+        assertThat(result.getFormat()).isEqualTo("NDJSON");
+        assertThat(result.getRowsImported()).isEqualTo(2);
+        assertThat(result.getRowsRejected()).isEqualTo(1);
+        assertThat(histories).extracting(PopulationHistory::getYear).containsExactly(2020, 2021);
+        assertThat(histories.get(0).getGrowthRate()).isEqualTo(0.1);
+        verify(historyStore).invalidate();
+        verify(snapshotStore, never()).refresh();
+    }
+
+    @Test
+    void rejectsUnknownFormat() {
+        assertThat(DataFormat.of("JSONL")).isEqualTo(DataFormat.NDJSON);
+        assertThat(DataFormat.ofFileName("countries.CSV.gz")).isEqualTo(DataFormat.CSV);
+        assertThatThrownBy(() -> DataFormat.of("xml"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
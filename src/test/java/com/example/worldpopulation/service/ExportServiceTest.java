@@ -0,0 +1,114 @@
+package com.example.worldpopulation.service;
+
+import com.example.worldpopulation.mapper.CountryPopulationMapper;
+import com.example.worldpopulation.mapper.PopulationHistoryMapper;
+import com.example.worldpopulation.model.CountryPopulation;
+import com.example.worldpopulation.model.PopulationHistory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExportServiceTest {
+
+    private final CountryPopulationMapper countryMapper = mock(CountryPopulationMapper.class);
+    private final PopulationHistoryMapper historyMapper = mock(PopulationHistoryMapper.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExportService service = new ExportService(countryMapper, historyMapper, objectMapper,
+            mock(PlatformTransactionManager.class));
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @Test
+    void writesCsvInImportFormat() throws IOException {
+        ListCursor<CountryPopulation> cursor = new ListCursor<>(List.of(
+                CountryPopulation.builder().countryCode("KOR").countryName("Korea, Republic of").continent("Asia")
+                        .population(51_700_000L).gdpPerCapita(new BigDecimal("34165.50")).year(2023).build(),
+                CountryPopulation.builder().countryCode("CIV").countryName("Côte d'Ivoire").continent("Africa")
+                        .population(28_000_000L).build()));
+        when(countryMapper.streamAll()).thenReturn(cursor);
+
+        long rows = service.exportCountries(DataFormat.CSV, false, out);
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).containsExactly(
+                "country_code,country_name,continent,population,area_sq_km,population_density,gdp_per_capita,life_expectancy,year",
+                "KOR,\"Korea, Republic of\",Asia,51700000,,,34165.50,,2023",
+                "CIV,Côte d'Ivoire,Africa,28000000,,,,,");
+        assertThat(cursor.closed).isTrue();
+    }
+
+    @Test
+    void writesGzippedNdjsonForOneCountry() throws IOException {
+        when(historyMapper.streamAll("KOR")).thenReturn(new ListCursor<>(List.of(
+                PopulationHistory.builder().countryCode("KOR").year(2020).population(51_800_000L).growthRate(0.1).build(),
+                PopulationHistory.builder().countryCode("KOR").year(2021).population(51_700_000L).build())));
+
+        long rows = service.exportHistory(DataFormat.NDJSON, "KOR", true, out);
+
+        assertThat(rows).isEqualTo(2);
+        String text;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            text = new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        List<String> lines = text.lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines.get(0), PopulationHistory.class).getGrowthRate()).isEqualTo(0.1);
+        assertThat(objectMapper.readValue(lines.get(1), PopulationHistory.class).getYear()).isEqualTo(2021);
+    }
+
+    @Test
+    void writesOnlyHeaderForEmptyTable() throws IOException {
+        when(historyMapper.streamAll(null)).thenReturn(new ListCursor<>(List.of()));
+
+        assertThat(service.exportHistory(DataFormat.CSV, null, false, out)).isZero();
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("country_code,year,population,growth_rate\n");
+    }
+
+    private static final class ListCursor<T> implements Cursor<T> {
+        private final List<T> rows;
+        private boolean closed;
+
+        ListCursor(List<T> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !closed;
+        }
+
+        @Override
+        public boolean isConsumed() {
+            return false;
+        }
+
+        @Override
+        public int getCurrentIndex() {
+            return -1;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return rows.iterator();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
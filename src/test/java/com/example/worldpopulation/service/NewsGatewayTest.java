@@ -0,0 +1,125 @@
+package com.example.worldpopulation.service;
+
+import com.example.worldpopulation.dto.NewsArticle;
+import com.example.worldpopulation.util.Bulkhead;
+import com.example.worldpopulation.util.CircuitBreaker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsGatewayTest {
+
+    private static final String BODY = """
+            {"status":"ok","articles":[{"title":"Seoul news","description":"d","url":"https://example.com/1",
+            "urlToImage":null,"source":{"name":"Stub"},"publishedAt":"2024-01-01T00:00:00Z"}]}
+            """;
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private volatile int status = 200;
+    private HttpServer server;
+    private NewsApiUpstream upstream;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v2/everything", exchange -> {
+            hits.incrementAndGet();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        upstream = new NewsApiUpstream(new ObjectMapper(), "http://127.0.0.1:" + server.getAddress().getPort(),
+                "test-key", Duration.ofSeconds(1), Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void concurrentMissesShareOneUpstreamCall() {
+        NewsGateway gateway = gateway(Duration.ofMinutes(10), new CircuitBreaker(0.5, 10, 5, Duration.ofMinutes(1)), new Bulkhead(10));
+
+        List<CompletableFuture<List<NewsArticle>>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(gateway.getNews("Korea"));
+        }
+        futures.forEach(future -> assertThat(future.join().get(0).getTitle()).isEqualTo("Seoul news"));
+        assertThat(gateway.getNews("korea").join().get(0).getTitle()).isEqualTo("Seoul news");
+
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void servesLastGoodResultWhenUpstreamFails() {
+        NewsGateway gateway = gateway(Duration.ZERO, new CircuitBreaker(0.5, 10, 5, Duration.ofMinutes(1)), new Bulkhead(10));
+        gateway.getNews("Korea").join();
+
+        status = 500;
+        List<NewsArticle> articles = gateway.getNews("Korea").join();
+
+        assertThat(hits.get()).isEqualTo(2);
+        assertThat(articles.get(0).getTitle()).isEqualTo("Seoul news");
+        assertThat(articles.get(0).getSource()).isEqualTo("Stub");
+    }
+
+    @Test
+    void openCircuitFailsFastToSampleNews() {
+        CircuitBreaker breaker = new CircuitBreaker(0.5, 4, 4, Duration.ofMinutes(1));
+        NewsGateway gateway = gateway(Duration.ofMinutes(10), breaker, new Bulkhead(10));
+        status = 500;
+        for (int i = 0; i < 4; i++) {
+            gateway.getNews("Country " + i).join();
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        List<NewsArticle> articles = gateway.getNews("Korea").join();
+
+        // 원천을 호출하지 않고 차단된 호출로만 기록됨
+        assertThat(hits.get()).isEqualTo(4);
+        assertThat(breaker.notPermittedCalls()).isEqualTo(1);
+        assertThat(articles.get(0).getUrl()).isEqualTo("#");
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondConcurrencyLimit() {
+        Bulkhead bulkhead = new Bulkhead(1);
+        NewsGateway gateway = gateway(Duration.ofMinutes(10), new CircuitBreaker(0.5, 10, 5, Duration.ofMinutes(1)), bulkhead);
+
+        CompletableFuture<List<NewsArticle>> first = gateway.getNews("Korea");
+        List<NewsArticle> second = gateway.getNews("Japan").join();
+
+        assertThat(second.get(0).getUrl()).isEqualTo("#");
+        assertThat(first.join().get(0).getTitle()).isEqualTo("Seoul news");
+        assertThat(hits.get()).isEqualTo(1);
+        assertThat(bulkhead.rejectedCalls()).isEqualTo(1);
+        assertThat(bulkhead.available()).isEqualTo(1);
+    }
+
+    private NewsGateway gateway(Duration ttl, CircuitBreaker breaker, Bulkhead bulkhead) {
+        return new NewsGateway(upstream, breaker, bulkhead, ttl, Duration.ofDays(1), 100, 10);
+    }
+}
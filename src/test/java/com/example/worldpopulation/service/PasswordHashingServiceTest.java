@@ -0,0 +1,109 @@
+package com.example.worldpopulation.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PasswordHashingServiceTest {
+
+    private final PasswordEncoder encoder = mock(PasswordEncoder.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 풀 스레드를 붙잡아 두는 비교
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void rejectsWith503WhenQueueIsFull() throws Exception {
+        service = new PasswordHashingService(encoder, 1, 1, Duration.ofSeconds(5), meterRegistry);
+        blockOn("busy");
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> service.matches("busy", "hash"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        FutureTask<Boolean> queued = new FutureTask<>(() -> service.matches("queued", "hash"));
+        Thread caller = new Thread(queued);
+        caller.start();
+        // 제출을 마치고 결과를 기다리기 시작하면 대기열에 들어간 것
+        while (caller.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> service.matches("third", "hash"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(rejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isFalse();
+    }
+
+    @Test
+    void timesOutWith503WithoutCountingRejection() {
+        service = new PasswordHashingService(encoder, 1, 1, Duration.ofMillis(50), meterRegistry);
+        blockOn("slow");
+
+        assertThatThrownBy(() -> service.matches("slow", "hash"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(rejectedCount()).isZero();
+    }
+
+    @Test
+    void comparesUnknownUserAgainstDummyHash() {
+        when(encoder.encode(anyString())).thenReturn("$dummy");
+        when(encoder.matches("secret", "$dummy")).thenReturn(true);
+        service = new PasswordHashingService(encoder, 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        // 더미 해시와 일치하더라도 사용자가 없으면 실패
+        assertThat(service.matches("secret", null)).isFalse();
+        verify(encoder).matches("secret", "$dummy");
+    }
+
+    @Test
+    void needsRehashOnlyForWeakerHashes() {
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder(5);
+        service = new PasswordHashingService(bcrypt, 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        assertThat(service.needsRehash(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(service.needsRehash(bcrypt.encode("secret"))).isFalse();
+    }
+
+    private void blockOn(String rawPassword) {
+        when(encoder.matches(rawPassword, "hash")).thenAnswer(invocation -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        });
+    }
+
+    private double rejectedCount() {
+        return meterRegistry.get("auth.login.rejected").counter().count();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.worldpopulation.service;
+
+import com.example.worldpopulation.mapper.CountryPopulationMapper;
+import com.example.worldpopulation.mapper.PopulationHistoryMapper;
+import com.example.worldpopulation.model.PopulationHistory;
+import com.example.worldpopulation.store.ContinentAggregateStore;
+import com.example.worldpopulation.store.CountrySearchIndex;
+import com.example.worldpopulation.store.CountrySnapshotStore;
+import com.example.worldpopulation.store.CountrySuggestTrie;
+import com.example.worldpopulation.store.PopulationHistoryStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class PopulationServiceTest {
+
+    private final PopulationHistoryMapper historyMapper = mock(PopulationHistoryMapper.class);
+    private final PopulationHistoryStore historyStore = mock(PopulationHistoryStore.class);
+    private final PopulationService service = new PopulationService(mock(CountryPopulationMapper.class), historyMapper,
+            mock(CountrySnapshotStore.class), mock(ContinentAggregateStore.class), mock(CountrySearchIndex.class),
+            mock(CountrySuggestTrie.class), historyStore);
+
+    @Test
+    void addPopulationHistoryUpsertsUnderNormalizedCode() {
+        PopulationHistory history = PopulationHistory.builder()
+                .countryCode(" kor ").year(2023).population(51_700_000L).growthRate(-0.1).build();
+
+        PopulationHistory saved = service.addPopulationHistory(history);
+
+        assertThat(saved.getCountryCode()).isEqualTo("KOR");
+        verify(historyMapper).upsert(history);
+        verify(historyStore).put("KOR", 2023, 51_700_000L, -0.1);
+    }
+
+    @Test
+    void addPopulationHistoryRejectsMissingFields() {
+        assertThatThrownBy(() -> service.addPopulationHistory(
+                PopulationHistory.builder().countryCode(" ").year(2023).population(1L).build()))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> service.addPopulationHistory(
+                PopulationHistory.builder().countryCode("KOR").year(2023).build()))
+                .isInstanceOf(ResponseStatusException.class);
+
+        verify(historyMapper, never()).upsert(any());
+        verify(historyStore, never()).put(anyString(), anyInt(), anyLong(), any());
+    }
+}
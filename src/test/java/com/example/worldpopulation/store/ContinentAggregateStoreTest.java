@@ -0,0 +1,78 @@
+package com.example.worldpopulation.store;
+
+import com.example.worldpopulation.dto.ContinentStatistics;
+import com.example.worldpopulation.model.CountryPopulation;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ContinentAggregateStoreTest {
+
+    private static CountryPopulation country(String code, String continent, long population, String gdp) {
+        return CountryPopulation.builder()
+                .countryCode(code)
+                .countryName(code)
+                .continent(continent)
+                .population(population)
+                .gdpPerCapita(gdp != null ? new BigDecimal(gdp) : null)
+                .lifeExpectancy(new BigDecimal("80.10"))
+                .build();
+    }
+
+    private final CountrySnapshotStore snapshotStore = mock(CountrySnapshotStore.class);
+    private final ContinentAggregateStore store = new ContinentAggregateStore(snapshotStore);
+
+    @Test
+    void incrementalChangesMatchFullRebuild() {
+        List<CountryPopulation> rows = new ArrayList<>(List.of(
+                country("KOR", "Asia", 50, "30000.10"),
+                country("JPN", "Asia", 120, null),
+                country("DEU", "Europe", 80, "45000.00")));
+        CountrySnapshot v1 = CountrySnapshot.build(1, rows);
+        when(snapshotStore.current()).thenReturn(v1);
+        assertThat(store.totalPopulation()).isEqualTo(250);
+
+        // 수정: KOR 이 유럽으로 이동 + 인구 변경
+        CountryPopulation before = v1.findByCode("KOR").orElseThrow();
+        rows.set(0, country("KOR", "Europe", 60, "30000.10"));
+        CountrySnapshot v2 = CountrySnapshot.build(2, rows);
+        store.onCountryChanged(new CountryChangedEvent(v2, before, v2.findByCode("KOR").orElseThrow()));
+
+        // 삭제: JPN
+        before = v2.findByCode("JPN").orElseThrow();
+        rows.remove(1);
+        CountrySnapshot v3 = CountrySnapshot.build(3, rows);
+        store.onCountryChanged(new CountryChangedEvent(v3, before, null));
+
+        when(snapshotStore.current()).thenReturn(v3);
+        List<ContinentStatistics> incremental = store.statistics();
+
+        ContinentAggregateStore rebuilt = new ContinentAggregateStore(snapshotStore);
+        assertThat(incremental).isEqualTo(rebuilt.statistics());
+        assertThat(incremental).singleElement().satisfies(stat -> {
+            assertThat(stat.getContinent()).isEqualTo("Europe");
+            assertThat(stat.getCountryCount()).isEqualTo(2);
+            assertThat(stat.getTotalPopulation()).isEqualTo(140);
+            assertThat(stat.getAvgGdp()).isEqualTo(37500.05);
+        });
+        assertThat(store.totalPopulation()).isEqualTo(140);
+    }
+
+    @Test
+    void averagesSkipMissingValuesLikeSqlAvg() {
+        when(snapshotStore.current()).thenReturn(CountrySnapshot.build(1, List.of(
+                country("KOR", "Asia", 50, "30000.00"),
+                country("JPN", "Asia", 150, null))));
+
+        ContinentStatistics asia = store.statistics().get(0);
+        assertThat(asia.getAvgPopulation()).isEqualTo(100.0);
+        assertThat(asia.getAvgGdp()).isEqualTo(30000.0);
+        assertThat(asia.getAvgLifeExpectancy()).isEqualTo(80.1);
+    }
+}
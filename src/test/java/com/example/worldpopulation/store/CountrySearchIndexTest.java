@@ -0,0 +1,74 @@
+package com.example.worldpopulation.store;
+
+import com.example.worldpopulation.model.CountryPopulation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CountrySearchIndexTest {
+
+    private static CountryPopulation country(String code, String name, long population) {
+        return CountryPopulation.builder()
+                .countryCode(code)
+                .countryName(name)
+                .continent("Asia")
+                .population(population)
+                .build();
+    }
+
+    private final List<CountryPopulation> rows = new ArrayList<>(List.of(
+            country("KOR", "대한민국", 51_700_000L),
+            country("PRK", "조선민주주의인민공화국", 26_000_000L),
+            country("CIV", "Côte d'Ivoire", 28_000_000L),
+            country("GNQ", "Equatorial Guinea", 1_700_000L),
+            country("GIN", "Guinea", 14_000_000L),
+            country("PNG", "Papua New Guinea", 10_000_000L)));
+
+    private final CountrySnapshotStore snapshotStore = mock(CountrySnapshotStore.class);
+    private final CountrySearchIndex index = new CountrySearchIndex(snapshotStore);
+
+    private List<String> search(String keyword) {
+        return index.search(keyword).stream().map(CountryPopulation::getCountryCode).toList();
+    }
+
+    @Test
+    void ranksByMatchQualityThenPopulation() {
+        when(snapshotStore.current()).thenReturn(CountrySnapshot.build(1, rows));
+
+        // 완전 일치 > 단어 접두어(인구순)
+        assertThat(search("guinea")).containsExactly("GIN", "PNG", "GNQ");
+        assertThat(search("민국")).containsExactly("KOR");
+        assertThat(search("민")).containsExactly("KOR", "PRK");
+    }
+
+    @Test
+    void ignoresCaseAndAccents() {
+        when(snapshotStore.current()).thenReturn(CountrySnapshot.build(1, rows));
+
+        assertThat(search("COTE D")).containsExactly("CIV");
+        assertThat(search("prk")).containsExactly("PRK");
+        assertThat(search("ㄷㅎㅁ")).containsExactly("KOR");
+        assertThat(search("xyz")).isEmpty();
+    }
+
+    @Test
+    void followsIncrementalChanges() {
+        CountrySnapshot v1 = CountrySnapshot.build(1, rows);
+        when(snapshotStore.current()).thenReturn(v1);
+        assertThat(search("guinea")).hasSize(3);
+
+        CountryPopulation before = v1.findByCode("GIN").orElseThrow();
+        rows.set(4, country("GIN", "Guinée", 14_000_000L));
+        CountrySnapshot v2 = CountrySnapshot.build(2, rows);
+        index.onCountryChanged(new CountryChangedEvent(v2, before, v2.findByCode("GIN").orElseThrow()));
+        when(snapshotStore.current()).thenReturn(v2);
+
+        assertThat(search("guinea")).containsExactly("PNG", "GNQ");
+        assertThat(search("guinee")).containsExactly("GIN");
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.worldpopulation.store;
+
+import com.example.worldpopulation.model.CountryPopulation;
+import com.github.pagehelper.Page;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountrySnapshotTest {
+
+    private static CountryPopulation country(String code, String continent, long population) {
+        return CountryPopulation.builder()
+                .id((long) code.hashCode())
+                .countryCode(code)
+                .countryName(code + " name")
+                .continent(continent)
+                .population(population)
+                .gdpPerCapita(new BigDecimal("1234.50"))
+                .year(2023)
+                .build();
+    }
+
+    private final CountrySnapshot snapshot = CountrySnapshot.build(1, List.of(
+            country("JPN", "Asia", 125_000_000L),
+            country("KOR", "Asia", 51_700_000L),
+            country("DEU", "Europe", 84_000_000L),
+            country("FRA", "Europe", 68_000_000L),
+            country("CHN", "Asia", 1_410_000_000L),
+            country("GBR", "Europe", 68_000_000L)));
+
+    @Test
+    void topCountriesAreOrderedByPopulationThenCode() {
+        assertThat(snapshot.top(10))
+                .extracting(CountryPopulation::getCountryCode)
+                .containsExactly("CHN", "JPN", "DEU", "FRA", "GBR", "KOR");
+        assertThat(snapshot.top(0)).isEmpty();
+    }
+
+    @Test
+    void totalPopulationIsPrecomputed() {
+        assertThat(snapshot.totalPopulation()).isEqualTo(1_806_700_000L);
+    }
+
+    @Test
+    void lookupsIgnoreCase() {
+        assertThat(snapshot.findByCode("kor")).map(CountryPopulation::getCountryName).contains("KOR name");
+        assertThat(snapshot.findByContinent("europe"))
+                .extracting(CountryPopulation::getCountryCode)
+                .containsExactly("DEU", "FRA", "GBR");
+        assertThat(snapshot.findByContinent("Antarctica")).isEmpty();
+    }
+
+    @Test
+    void materializedRowKeepsColumnValues() {
+        CountryPopulation korea = snapshot.findByCode("KOR").orElseThrow();
+        assertThat(korea.getPopulation()).isEqualTo(51_700_000L);
+        assertThat(korea.getGdpPerCapita()).isEqualTo(new BigDecimal("1234.50"));
+        assertThat(korea.getAreaSqKm()).isNull();
+        assertThat(korea.getYear()).isEqualTo(2023);
+    }
+
+    @Test
+    void decimalColumnsKeepColumnScaleAsScaledLongs() {
+        CountrySnapshot scaled = CountrySnapshot.build(1, List.of(
+                CountryPopulation.builder().countryCode("KOR").population(1L)
+                        .gdpPerCapita(new BigDecimal("1234.5"))
+                        .lifeExpectancy(new BigDecimal("83.456"))
+                        .build()));
+        int row = scaled.indexOf("KOR");
+
+        // 컬럼 스케일(2)로 맞춰 보관하므로 1234.5 도 1234.50 으로 돌아옴
+        CountryPopulation korea = scaled.toCountry(row);
+        assertThat(korea.getGdpPerCapita()).isEqualTo(new BigDecimal("1234.50"));
+        assertThat(korea.getLifeExpectancy()).isEqualTo(new BigDecimal("83.46"));
+        assertThat(korea.getPopulationDensity()).isNull();
+
+        assertThat(scaled.gdpPerCapita(row)).isEqualTo(1234.5);
+        assertThat(scaled.lifeExpectancy(row)).isEqualTo(83.46);
+        assertThat(snapshot.gdpPerCapita(snapshot.indexOf("JPN"))).isEqualTo(1234.5);
+        assertThat(CountrySnapshot.build(1, List.of(CountryPopulation.builder().countryCode("X").build()))
+                .lifeExpectancy(0)).isNaN();
+    }
+
+    @Test
+    void pagingFollowsPageHelperSettings() {
+        Page<CountryPopulation> second = snapshot.page(2, 4);
+        assertThat(second.getTotal()).isEqualTo(6);
+        assertThat(second).extracting(CountryPopulation::getCountryCode).containsExactly("GBR", "KOR");
+
+        // reasonable: 범위를 넘는 페이지는 마지막 페이지로 조정
+        assertThat(snapshot.page(99, 4).getPageNum()).isEqualTo(2);
+
+        // page-size-zero: 전체 조회
+        assertThat(snapshot.page(1, 0)).hasSize(6);
+    }
+
+    @Test
+    void keysetSeekContinuesAfterCursor() {
+        int rank = snapshot.rankAfter(KeysetCursor.decode(new KeysetCursor(68_000_000L, "FRA").encode()));
+        assertThat(snapshot.ranked(rank, 10))
+                .extracting(CountryPopulation::getCountryCode)
+                .containsExactly("GBR", "KOR");
+
+        // 커서 행이 사라져도 정렬 키 기준으로 이어짐
+        assertThat(snapshot.rankAfter(new KeysetCursor(70_000_000L, "ZZZ"))).isEqualTo(3);
+        assertThat(snapshot.rankAfter(new KeysetCursor(0L, "AAA"))).isEqualTo(6);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.worldpopulation.store;
+
+import com.example.worldpopulation.dto.CountrySuggestion;
+import com.example.worldpopulation.model.CountryPopulation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CountrySuggestTrieTest {
+
+    private static CountryPopulation country(String code, String name, long population) {
+        return CountryPopulation.builder()
+                .countryCode(code)
+                .countryName(name)
+                .continent("Asia")
+                .population(population)
+                .build();
+    }
+
+    private final List<CountryPopulation> rows = new ArrayList<>(List.of(
+            country("KOR", "대한민국", 51_700_000L),
+            country("PRK", "조선민주주의인민공화국", 26_000_000L),
+            country("CIV", "Côte d'Ivoire", 28_000_000L),
+            country("GNQ", "Equatorial Guinea", 1_700_000L),
+            country("GIN", "Guinea", 14_000_000L),
+            country("GNB", "Guinea-Bissau", 2_100_000L),
+            country("PNG", "Papua New Guinea", 10_000_000L)));
+
+    private final CountrySnapshotStore snapshotStore = mock(CountrySnapshotStore.class);
+    private final CountrySuggestTrie trie = new CountrySuggestTrie(snapshotStore, 2);
+
+    private List<String> suggest(String prefix, int limit) {
+        return trie.suggest(prefix, limit).stream().map(CountrySuggestion::getCountryCode).toList();
+    }
+
+    @Test
+    void keepsTopKByPopulationPerNode() {
+        when(snapshotStore.current()).thenReturn(CountrySnapshot.build(1, rows));
+
+        // 국가명/단어 시작 모두 "gu" 에 해당하지만 노드에는 인구 상위 2개만 보관
+        assertThat(suggest("gu", 10)).containsExactly("GIN", "PNG");
+        assertThat(suggest("gu", 1)).containsExactly("GIN");
+        assertThat(suggest("guinea-", 10)).containsExactly("GNB");
+        assertThat(suggest("gu", 0)).isEmpty();
+    }
+
+    @Test
+    void matchesCodesKoreanChoseongAndIgnoresAccents() {
+        when(snapshotStore.current()).thenReturn(CountrySnapshot.build(1, rows));
+
+        assertThat(suggest("대한", 10)).containsExactly("KOR");
+        assertThat(suggest("ㄷㅎ", 10)).containsExactly("KOR");
+        assertThat(suggest("민", 10)).isEmpty();
+        assertThat(suggest("COTE", 10)).containsExactly("CIV");
+        assertThat(suggest("Côte d", 10)).containsExactly("CIV");
+        assertThat(suggest("prk", 10)).containsExactly("PRK");
+        assertThat(suggest("xyz", 10)).isEmpty();
+    }
+
+    @Test
+    void rebuildsOnChange() {
+        CountrySnapshot v1 = CountrySnapshot.build(1, rows);
+        when(snapshotStore.current()).thenReturn(v1);
+        assertThat(suggest("papua", 10)).containsExactly("PNG");
+
+        CountryPopulation before = v1.findByCode("PNG").orElseThrow();
+        rows.set(6, country("PNG", "Papua New Guinea", 90_000_000L));
+        CountrySnapshot v2 = CountrySnapshot.build(2, rows);
+        trie.onCountryChanged(new CountryChangedEvent(v2, before, v2.findByCode("PNG").orElseThrow()));
+        when(snapshotStore.current()).thenReturn(v2);
+
+        assertThat(suggest("gu", 10)).containsExactly("PNG", "GIN");
+    }
+}
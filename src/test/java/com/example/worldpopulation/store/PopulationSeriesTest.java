@@ -0,0 +1,62 @@
+package com.example.worldpopulation.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PopulationSeriesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void serializesAsYearPopulationGrowthRateArray() throws Exception {
+        PopulationSeries series = PopulationSeries.builder()
+                .add(2022, 51628117L, -0.36)
+                .add(2023, 51784059L, null)
+                .build();
+
+        assertThat(objectMapper.writeValueAsString(series)).isEqualTo(
+                "[{\"year\":2022,\"population\":51628117,\"growthRate\":-0.36},"
+                        + "{\"year\":2023,\"population\":51784059,\"growthRate\":null}]");
+    }
+
+    @Test
+    void withInsertsInYearOrderAndReplacesExistingYear() {
+        PopulationSeries series = PopulationSeries.builder()
+                .add(2018, 100L, 0.1)
+                .add(2020, 300L, 0.3)
+                .build();
+
+        PopulationSeries inserted = series.with(2019, 200L, 0.2);
+        PopulationSeries replaced = inserted.with(2020, 350L, null);
+
+        assertThat(series.size()).isEqualTo(2);
+        assertThat(replaced.size()).isEqualTo(3);
+        assertThat(replaced.year(1)).isEqualTo(2019);
+        assertThat(replaced.population(1)).isEqualTo(200L);
+        assertThat(inserted.population(2)).isEqualTo(300L);
+        assertThat(replaced.population(2)).isEqualTo(350L);
+        assertThat(replaced.growthRate(2)).isNaN();
+    }
+
+    @Test
+    void betweenAndDownsampleKeepEndpoints() {
+        PopulationSeries.Builder builder = PopulationSeries.builder();
+        for (int year = 1950; year <= 2023; year++) {
+            builder.add(year, 1_000_000L + (year - 1950) * 10_000L, 1.0);
+        }
+        PopulationSeries series = builder.build();
+
+        PopulationSeries range = series.between(1990, 2000);
+        assertThat(range.size()).isEqualTo(11);
+        assertThat(range.year(0)).isEqualTo(1990);
+        assertThat(range.year(10)).isEqualTo(2000);
+
+        PopulationSeries sampled = series.downsample(10);
+        assertThat(sampled.size()).isEqualTo(10);
+        assertThat(sampled.year(0)).isEqualTo(1950);
+        assertThat(sampled.year(9)).isEqualTo(2023);
+        assertThat(series.between(2030, null).size()).isZero();
+    }
+}
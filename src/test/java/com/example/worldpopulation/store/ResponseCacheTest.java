@@ -0,0 +1,96 @@
+package com.example.worldpopulation.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheTest {
+
+    private static final String JSON = "application/json";
+
+    private final DataVersion dataVersion = new DataVersion();
+
+    @Test
+    void evictsLeastRecentlyUsedEntryOverEntryLimit() {
+        ResponseCache cache = new ResponseCache(dataVersion, 2, 1_000_000);
+        long version = dataVersion.current().counter();
+        cache.put("/a", version, JSON, "{\"a\":1}".getBytes());
+        cache.put("/b", version, JSON, "{\"b\":1}".getBytes());
+
+        assertThat(cache.get("/a")).isNotNull();
+        cache.put("/c", version, JSON, "{\"c\":1}".getBytes());
+
+        assertThat(cache.get("/b")).isNull();
+        assertThat(cache.get("/a")).isNotNull();
+        assertThat(cache.get("/c")).isNotNull();
+        assertThat(cache.stats().getEntries()).isEqualTo(2);
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void countsOriginalAndGzipBytesAndEvictsOverByteLimit() {
+        // 압축되지 않는 본문이라 항목 하나가 약 1,800 바이트
+        ResponseCache cache = new ResponseCache(dataVersion, 100, 4_000);
+        long version = dataVersion.current().counter();
+        cache.put("/a", version, JSON, randomBytes(900, 1));
+        cache.put("/b", version, JSON, randomBytes(900, 2));
+
+        ResponseCache.Entry a = cache.get("/a");
+        ResponseCache.Entry b = cache.get("/b");
+        assertThat(cache.stats().getBytes())
+                .isEqualTo(a.body().length + a.gzipBody().length + b.body().length + b.gzipBody().length);
+
+        cache.put("/c", version, JSON, randomBytes(900, 3));
+
+        assertThat(cache.get("/a")).isNull();
+        assertThat(cache.stats().getEntries()).isEqualTo(2);
+        assertThat(cache.stats().getBytes()).isLessThanOrEqualTo(4_000);
+
+        // 최대 크기의 1/4 을 넘는 본문은 저장하지 않음
+        cache.put("/big", version, JSON, randomBytes(1_001, 4));
+        assertThat(cache.get("/big")).isNull();
+
+        cache.clear();
+        assertThat(cache.stats().getBytes()).isZero();
+    }
+
+    @Test
+    void dropsEntriesFromOlderDataVersion() {
+        ResponseCache cache = new ResponseCache(dataVersion, 10, 1_000_000);
+        cache.put("/stats", dataVersion.current().counter(), JSON, "{\"total\":1}".getBytes());
+        assertThat(cache.get("/stats")).isNotNull();
+
+        dataVersion.bump();
+
+        assertThat(cache.get("/stats")).isNull();
+        assertThat(cache.stats().getEntries()).isZero();
+        assertThat(cache.stats().getBytes()).isZero();
+        assertThat(cache.stats().getHits()).isEqualTo(1);
+        assertThat(cache.stats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsGzipVariantOfBody() throws IOException {
+        ResponseCache cache = new ResponseCache(dataVersion, 10, 1_000_000);
+        byte[] body = "{\"countries\":[\"KOR\",\"JPN\",\"CHN\"]}".repeat(20).getBytes();
+        cache.put("/top", dataVersion.current().counter(), JSON, body);
+
+        ResponseCache.Entry entry = cache.get("/top");
+        assertThat(entry.contentType()).isEqualTo(JSON);
+        assertThat(entry.gzipBody().length).isLessThan(body.length);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(entry.gzipBody()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(body);
+        }
+    }
+
+    private static byte[] randomBytes(int length, long seed) {
+        byte[] bytes = new byte[length];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+}
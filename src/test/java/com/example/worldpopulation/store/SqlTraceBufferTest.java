@@ -0,0 +1,26 @@
+package com.example.worldpopulation.store;
+
+import com.example.worldpopulation.dto.SqlTrace;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlTraceBufferTest {
+
+    @Test
+    void keepsOnlyMostRecentTracesNewestFirst() {
+        SqlTraceBuffer buffer = new SqlTraceBuffer(3);
+        Instant base = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < 5; i++) {
+            buffer.add(SqlTrace.builder().statement("s" + i).timestamp(base.plusSeconds(i)).build());
+        }
+
+        List<SqlTrace> traces = buffer.snapshot();
+
+        assertThat(traces).extracting(SqlTrace::getStatement).containsExactly("s4", "s3", "s2");
+        assertThat(buffer.recorded()).isEqualTo(5);
+    }
+}
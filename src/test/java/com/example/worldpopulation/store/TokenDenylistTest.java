@@ -0,0 +1,105 @@
+package com.example.worldpopulation.store;
+
+import com.example.worldpopulation.mapper.RevokedTokenMapper;
+import com.example.worldpopulation.model.RevokedToken;
+import com.example.worldpopulation.util.BloomFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenDenylistTest {
+
+    private final StubMapper mapper = new StubMapper();
+    private final TokenDenylist denylist = new TokenDenylist(mapper, 1_000);
+
+    @Test
+    void loadsStoredTokensOnFirstCheckOnly() {
+        mapper.rows.add(RevokedToken.builder().jti("stored").expiresAt(LocalDateTime.now().plusHours(1)).build());
+        assertThat(mapper.findActiveCalls).isZero();
+
+        assertThat(denylist.isRevoked("stored")).isTrue();
+        assertThat(denylist.isRevoked("other")).isFalse();
+        assertThat(mapper.findActiveCalls).isEqualTo(1);
+    }
+
+    @Test
+    void failsOpenAndRetriesLoadLater() {
+        mapper.rows.add(RevokedToken.builder().jti("stored").expiresAt(LocalDateTime.now().plusHours(1)).build());
+        mapper.failFindActive = true;
+
+        assertThat(denylist.isRevoked("stored")).isFalse();
+        assertThat(denylist.isRevoked("stored")).isFalse();
+        assertThat(mapper.findActiveCalls).isEqualTo(1);
+
+        // 재시도 시각이 지난 것으로 간주
+        mapper.failFindActive = false;
+        ReflectionTestUtils.setField(denylist, "nextLoadAttempt", Instant.MIN);
+
+        assertThat(denylist.isRevoked("stored")).isTrue();
+        assertThat(mapper.findActiveCalls).isEqualTo(2);
+    }
+
+    @Test
+    void revokedTokenIsRejectedEvenIfStoreFails() {
+        denylist.revoke("saved", Instant.now().plusSeconds(3_600));
+        mapper.failInsert = true;
+        denylist.revoke("unsaved", Instant.now().plusSeconds(3_600));
+
+        assertThat(denylist.isRevoked("saved")).isTrue();
+        assertThat(denylist.isRevoked("unsaved")).isTrue();
+        assertThat(mapper.inserted).extracting(RevokedToken::getJti).containsExactly("saved");
+    }
+
+    @Test
+    void expiredTokensAreDroppedAndFilterRebuiltOnCleanup() {
+        denylist.revoke("active", Instant.now().plusSeconds(3_600));
+        denylist.revoke("expired", Instant.now().minusSeconds(1));
+        assertThat(denylist.isRevoked("expired")).isFalse();
+
+        denylist.cleanup();
+
+        BloomFilter rebuilt = (BloomFilter) ReflectionTestUtils.getField(denylist, "bloomFilter");
+        assertThat(rebuilt.mightContain("active")).isTrue();
+        assertThat(rebuilt.mightContain("expired")).isFalse();
+        assertThat(denylist.isRevoked("active")).isTrue();
+        assertThat(mapper.deleteExpiredCalls).isEqualTo(1);
+    }
+
+    private static final class StubMapper implements RevokedTokenMapper {
+        final List<RevokedToken> rows = new ArrayList<>();
+        final List<RevokedToken> inserted = new ArrayList<>();
+        boolean failFindActive;
+        boolean failInsert;
+        int findActiveCalls;
+        int deleteExpiredCalls;
+
+        @Override
+        public List<RevokedToken> findActive(LocalDateTime now) {
+            findActiveCalls++;
+            if (failFindActive) {
+                throw new IllegalStateException("db down");
+            }
+            return rows.stream().filter(row -> row.getExpiresAt().isAfter(now)).toList();
+        }
+
+        @Override
+        public void insert(RevokedToken token) {
+            if (failInsert) {
+                throw new IllegalStateException("db down");
+            }
+            inserted.add(token);
+        }
+
+        @Override
+        public int deleteExpired(LocalDateTime now) {
+            deleteExpiredCalls++;
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.worldpopulation.store;
+
+import com.example.worldpopulation.mapper.UserRevocationMapper;
+import com.example.worldpopulation.model.UserRevocation;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserRevocationRegistryTest {
+
+    private static final long LIFETIME = 3_600_000L;
+
+    private final UserRevocationMapper mapper = mock(UserRevocationMapper.class);
+
+    @Test
+    void revokeIsStoredInSecondsAndRejectsTokensOfTheSameSecond() {
+        UserRevocationRegistry registry = new UserRevocationRegistry(mapper, LIFETIME);
+
+        registry.revoke("alice");
+
+        ArgumentCaptor<UserRevocation> saved = ArgumentCaptor.forClass(UserRevocation.class);
+        verify(mapper).upsert(saved.capture());
+        LocalDateTime revokedAt = saved.getValue().getRevokedAt();
+        assertThat(revokedAt.getNano()).isZero();
+
+        Instant revoked = revokedAt.atZone(ZoneId.systemDefault()).toInstant();
+        assertThat(registry.isRevoked("alice", revoked.minusSeconds(1))).isTrue();
+        assertThat(registry.isRevoked("alice", revoked)).isTrue();
+        assertThat(registry.isRevoked("alice", revoked.plusSeconds(1))).isFalse();
+        assertThat(registry.isRevoked("bob", revoked.minusSeconds(1))).isFalse();
+    }
+
+    @Test
+    void loadsStoredRevocationsAfterRestart() {
+        Instant revoked = Instant.now().truncatedTo(ChronoUnit.SECONDS).minusSeconds(60);
+        when(mapper.findSince(any())).thenReturn(List.of(UserRevocation.builder()
+                .username("alice")
+                .revokedAt(LocalDateTime.ofInstant(revoked, ZoneId.systemDefault()))
+                .build()));
+
+        UserRevocationRegistry registry = new UserRevocationRegistry(mapper, LIFETIME);
+
+        assertThat(registry.isRevoked("alice", revoked.minusSeconds(10))).isTrue();
+        assertThat(registry.isRevoked("alice", revoked.plusSeconds(10))).isFalse();
+    }
+
+    @Test
+    void failsOpenWhenTableCannotBeRead() {
+        when(mapper.findSince(any())).thenThrow(new IllegalStateException("db down"));
+        UserRevocationRegistry registry = new UserRevocationRegistry(mapper, LIFETIME);
+
+        assertThat(registry.isRevoked("alice", Instant.now())).isFalse();
+
+        // 저장에 실패해도 이 인스턴스에서는 거부
+        doThrow(new IllegalStateException("db down")).when(mapper).upsert(any());
+        registry.revoke("alice");
+        assertThat(registry.isRevoked("alice", Instant.now().minusSeconds(5))).isTrue();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.worldpopulation.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvUtilsTest {
+
+    @Test
+    void parsesQuotedFieldsAndEscapedQuotes() {
+        assertThat(CsvUtils.parseLine("KOR,\"Korea, Republic of\",\"say \"\"hi\"\"\",,51700000"))
+                .containsExactly("KOR", "Korea, Republic of", "say \"hi\"", "", "51700000");
+        assertThat(CsvUtils.parseLine("")).containsExactly("");
+        assertThat(CsvUtils.parseLine("a,")).containsExactly("a", "");
+    }
+
+    @Test
+    void rejectsUnclosedQuote() {
+        assertThatThrownBy(() -> CsvUtils.parseLine("KOR,\"Korea"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void escapeRoundTripsThroughParse() {
+        String line = String.join(",", CsvUtils.escape("Côte d'Ivoire"), CsvUtils.escape("a,b"),
+                CsvUtils.escape("\"quoted\""), CsvUtils.escape(null));
+
+        assertThat(line).isEqualTo("Côte d'Ivoire,\"a,b\",\"\"\"quoted\"\"\",");
+        assertThat(CsvUtils.parseLine(line)).containsExactly("Côte d'Ivoire", "a,b", "\"quoted\"", "");
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.worldpopulation.util;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jwtUtil, "secret",
+                "thisIsADefaultSecretKeyThatIsAtLeast64CharactersLongToSatisfyThe512BitRequirementForHS512Algorithm");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 60_000L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheMaxSize", 100L);
+        jwtUtil.init();
+    }
+
+    @Test
+    void verifyParsesOnceAndReusesVerifiedClaims() {
+        String token = jwtUtil.generateToken(User.withUsername("alice").password("x").roles("USER").build());
+
+        VerifiedJwt first = jwtUtil.verify(token);
+        VerifiedJwt second = jwtUtil.verify(token);
+
+        assertThat(first.username()).isEqualTo("alice");
+        assertThat(first.roles()).isEqualTo(List.of("ROLE_USER"));
+        assertThat(first.enabled()).isTrue();
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void verifyRejectsTamperedSignature() {
+        String token = jwtUtil.generateToken(User.withUsername("alice").password("x").roles("USER").build());
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtUtil.verify(tampered)).isInstanceOf(JwtException.class);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.worldpopulation.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingTest {
+
+    @Test
+    void keepsHeavyHittersWithinBoundedCounters() {
+        SpaceSaving sketch = new SpaceSaving(20);
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            // 절반은 상위 3개 키, 나머지는 1000개 키에 고르게 분산
+            String key = i % 2 == 0 ? "hot-" + (i % 3) : "cold-" + random.nextInt(1_000);
+            sketch.offer(key, key.toUpperCase());
+        }
+
+        List<SpaceSaving.Item> top = sketch.top(3);
+        assertThat(top).hasSize(3);
+        for (SpaceSaving.Item item : top) {
+            assertThat(item.key()).startsWith("hot-");
+            assertThat(item.label()).isEqualTo(item.key().toUpperCase());
+            assertThat(item.count()).isGreaterThanOrEqualTo(3_333);
+            assertThat(item.count() - item.error()).isLessThanOrEqualTo(3_334);
+        }
+    }
+
+    @Test
+    void decayHalvesCountsAndDropsEmptyCounters() {
+        SpaceSaving sketch = new SpaceSaving(10);
+        sketch.offer("a", "a");
+        sketch.offer("a", "a");
+        sketch.offer("b", "b");
+
+        sketch.decay();
+
+        List<SpaceSaving.Item> top = sketch.top(10);
+        assertThat(top).hasSize(1);
+        assertThat(top.get(0).key()).isEqualTo("a");
+        assertThat(top.get(0).count()).isEqualTo(1);
+    }
+}